@@ -1,7 +1,10 @@
 import controller.GameController;
 import model.*;
 import view.coverPanel.Cover;
+import view.coverPanel.RuleImagePanel;
+import view.gamePanel.CardImageAtlas;
 import view.gamePanel.MainFrame;
+import view.gamePanel.TileImageCache;
 import javax.swing.*;
 import java.awt.*;
 import java.util.ArrayList;
@@ -9,7 +12,7 @@ import java.util.List;
 
 public class ForbiddenIslandGame {
     private static void startGame() {
-        Game game = Game.getInstance();
+        Game game = new Game();
         MainFrame mainFrame = MainFrame.getInstance();
         GameController gameController = new GameController(game, mainFrame);
 
@@ -44,13 +47,7 @@ public class ForbiddenIslandGame {
                 mf.addConsoleMessage("Please select the tile to move to.");
                 mf.getGameBoardPanel().setMode(view.gamePanel.GameBoardPanel.Mode.MOVE);
                 Player player = game.getCurrentPlayer();
-                List<Tile> movableTiles = game.getBoard().getMovableTilesForPlayer(player);
-                List<int[]> positions = new ArrayList<>();
-                for (Tile t : movableTiles) {
-                    int[] pos = game.getBoard().getTilePosition(t);
-                    if (pos != null) positions.add(pos);
-                }
-                mf.getGameBoardPanel().highlightTiles(positions);
+                mf.getGameBoardPanel().highlightCells(game.getBoard().getMovableMask(player));
             });
 
             mainFrame.setTileClickEvent((row, col) -> {
@@ -75,17 +72,14 @@ public class ForbiddenIslandGame {
 
             mainFrame.onShoreUpButtonClick.addListener(sender -> {
                 Player player = game.getCurrentPlayer();
-                List<Tile> shoreableTiles = new ArrayList<>();
                 // Find all shore-up targets
-                for (Tile tile : game.getBoard().getAllTiles()) {
-                    if (player.canShoreUp(tile)) {
-                        shoreableTiles.add(tile);
-                    }
-                }
+                List<Tile> shoreableTiles = game.getBoard().getShoreUpTilesForPlayer(player);
                 if (shoreableTiles.isEmpty()) {
                     JOptionPane.showMessageDialog(mainFrame, "No tiles can be shored up!", "Notice", JOptionPane.WARNING_MESSAGE);
                     return;
                 }
+                // Show the targets on the board while the dialog is open
+                mainFrame.getGameBoardPanel().highlightCells(game.getBoard().getShoreUpMask(player));
                 Tile selected = (Tile) JOptionPane.showInputDialog(
                         mainFrame,
                         "Select a tile to shore up:",
@@ -95,6 +89,7 @@ public class ForbiddenIslandGame {
                         shoreableTiles.toArray(),
                         shoreableTiles.get(0)
                 );
+                mainFrame.getGameBoardPanel().clearHighlight();
                 if (selected != null) {
                     gameController.handlePlayerShoreUp(selected);
                 }
@@ -199,9 +194,20 @@ public class ForbiddenIslandGame {
     }
 
     public static void main(String[] args) {
+        long start = System.nanoTime();
+
+        // Decode the artwork on background threads while the cover screen comes up
+        Cover.preload();
+        TileImageCache.getShared().preload();
+        CardImageAtlas.preload();
+        RuleImagePanel.preload();
 
-        SwingUtilities.invokeLater(() -> {
-            Cover.createAndShowCover(ForbiddenIslandGame::startGame);
+        // Run with -Dstartup.timing=true to print how long the cover screen takes to appear
+        boolean timing = Boolean.getBoolean("startup.timing");
+        Cover.createAndShowCover(ForbiddenIslandGame::startGame, () -> {
+            if (timing) {
+                System.out.printf("Cover shown %d ms after start%n", (System.nanoTime() - start) / 1_000_000);
+            }
         });
     }
 }
@@ -2,7 +2,9 @@ package controller;
 
 import lombok.Getter;
 import model.*;
+import model.Action;
 import model.card.*;
+import model.enums.TreasureType;
 import view.gamePanel.MainFrame;
 import model.enums.GameState;
 
@@ -12,8 +14,9 @@ import java.util.List;
 
 /**
  * Controller for managing the main game process, player actions, and UI updates.
+ * Registers itself as a {@link GameEventListener} so the Swing frame follows the game session.
  */
-public class GameController {
+public class GameController implements GameEventListener {
     @Getter
     private Game game;
     private MainFrame mainFrame;
@@ -24,8 +27,10 @@ public class GameController {
         // Default constructor
         this.game = game;
         this.mainFrame = mainFrame;
-        // Set reference to MainFrame in Game instance
-        game.setMainFrame(mainFrame);
+        // Follow game events to keep the frame up to date
+        game.addGameEventListener(this);
+        // Answer discard, special card and role prompts with modal dialogs
+        game.setDefaultAgent(new SwingPlayerAgent(mainFrame));
     }
 
     public void initializeViewFrame() {
@@ -38,13 +43,30 @@ public class GameController {
 
     public void startGame(int playerNum) {
         if (game != null && mainFrame != null) {
-            game.startGame(playerNum);
+            game.startGame(playerNum, selectStartingPlayer(playerNum));
             mainFrame.updateBoard(game.getBoard());
             // Notify turn start
             handleStartPlayerTurn();
         }
     }
 
+    /**
+     * Dialog for selecting the starting player
+     * @return Index of the selected player, 0 if the dialog was closed
+     */
+    private int selectStartingPlayer(int playerNum) {
+        String[] playerNames = new String[playerNum];
+        for (int i = 0; i < playerNum; i++) {
+            playerNames[i] = "Player " + (i + 1);
+        }
+        int startIdx = JOptionPane.showOptionDialog(
+                null, "Please select the starting player", "Select Starting Player",
+                JOptionPane.DEFAULT_OPTION, JOptionPane.QUESTION_MESSAGE,
+                null, playerNames, playerNames[0]
+        );
+        return Math.max(startIdx, 0);
+    }
+
     private int getPlayerNum() {
         // TODO: Retrieve player number from mainFrame if needed
         if (mainFrame != null) {
@@ -64,8 +86,7 @@ public class GameController {
             mainFrame.addConsoleMessage("Cannot move to that tile!");
             return;
         }
-        if (player.moveToTile(destination)) {
-            player.useAction();
+        if (game.getTurnManager().applyAction(Action.move(BoardState.cell(destination.getRow(), destination.getCol())))) {
             mainFrame.addConsoleMessage("Player " + player.getPlayerId() + " moved to " + destination.getType().getDisplayName());
             mainFrame.updateBoard(game.getBoard());
             checkAfterPlayerAction(player);
@@ -82,8 +103,7 @@ public class GameController {
     public void handlePlayerShoreUp(Tile tile) {
         Player player = game.getCurrentPlayer();
         if (player.getRemainingActions() > 0 && tile.isFlooded() && !tile.isSunk()) {
-            // Call player's shore up method
-            if (player.shoreUp(tile)) {
+            if (game.getTurnManager().applyAction(Action.shoreUp(BoardState.cell(tile.getRow(), tile.getCol())))) {
                 mainFrame.addConsoleMessage("Player " + player.getPlayerId() + " shored up " + tile.getType().getDisplayName() + " drainage");
                 mainFrame.updateBoard(game.getBoard());
                 checkAfterPlayerAction(player);
@@ -271,8 +291,7 @@ public class GameController {
             return;
         }
         // Collect treasure
-        if (player.captureTreasure(tile.getTreasure())) {
-            player.useAction();
+        if (game.getTurnManager().applyAction(Action.captureTreasure())) {
             mainFrame.addConsoleMessage("Player " + player.getPlayerId() + " successfully collected the treasure: " + tile.getTreasure().getDisplayName());
             mainFrame.getPlayerInfoPanel().updatePlayerInfos(game.getPlayers(), game.getCurrentPlayerIndex());
             checkAfterPlayerAction(player);
@@ -350,8 +369,8 @@ public class GameController {
             mainFrame.addConsoleMessage("Can only give cards within the same tile, Messenger can give cards remotely.");
             return;
         }
-        if (from.giveCardToPlayer(to, card)) {
-            from.useAction();
+        int giveCard = Action.giveCard(game.getPlayers().indexOf(to), from.getHand().indexOf(card));
+        if (from == game.getCurrentPlayer() && game.getTurnManager().applyAction(giveCard)) {
             mainFrame.addConsoleMessage("Player " + from.getPlayerId() + " gave a card to Player " + to.getPlayerId());
             mainFrame.getPlayerInfoPanel().updatePlayerInfos(game.getPlayers(), game.getCurrentPlayerIndex());
             checkAfterPlayerAction(from);
@@ -359,4 +378,47 @@ public class GameController {
             mainFrame.addConsoleMessage("Failed to give the card!");
         }
     }
-}
\ No newline at end of file
+
+    /************ Game Event Listener ************/
+
+    @Override
+    public void onTurnStart(Player currentPlayer, int turnNumber) {
+        mainFrame.getPlayerInfoPanel().updatePlayerInfos(game.getPlayers(), game.getCurrentPlayerIndex());
+        mainFrame.addConsoleMessage("Player " + currentPlayer.getPlayerId() + "'s turn started");
+        mainFrame.updateBoard(game.getBoard());
+    }
+
+    @Override
+    public void onPhaseChanged(TurnManager.TurnPhase phase) {
+        mainFrame.updateBoard(game.getBoard());
+    }
+
+    @Override
+    public void onBoardChanged(Board board) {
+        mainFrame.updateBoard(board);
+    }
+
+    @Override
+    public void onTreasureCaptured(Player player, TreasureType treasureType) {
+        mainFrame.getPlayerInfoPanel().updatePlayerInfos(game.getPlayers(), game.getCurrentPlayerIndex());
+    }
+
+    @Override
+    public void onPlayerMustDiscard(Player player) {
+        // The player's agent picks the cards right after this
+        mainFrame.addConsoleMessage("Player " + player.getPlayerId() + " has too many cards and must discard");
+    }
+
+    @Override
+    public void onCardDiscarded(Player player, Card card) {
+        mainFrame.addConsoleMessage("Player " + player.getPlayerId() + " discarded " + card.getName());
+        if (player == game.getCurrentPlayer()) {
+            mainFrame.updatePlayerHand(player.getHand());
+        }
+    }
+
+    @Override
+    public void onGameOver(String message) {
+        SwingUtilities.invokeLater(() -> mainFrame.showGameOverDialog(message));
+    }
+}
@@ -0,0 +1,151 @@
+package controller;
+
+import model.Player;
+import model.PlayerAgent;
+import model.Tile;
+import model.card.Card;
+import model.card.HandCard;
+import model.card.SpecialCard;
+import model.card.TreasureCard;
+import view.dialog.DiscardDialog;
+import view.dialog.HelicopterLiftDialog;
+import view.dialog.RoleActionDialog;
+
+import javax.swing.*;
+import java.util.List;
+
+/**
+ * Answers player prompts with modal dialogs. Each method blocks until the dialog is closed,
+ * so the engine gets its answer in the same call; it should be called on the event dispatch thread.
+ */
+public class SwingPlayerAgent implements PlayerAgent {
+    private final JFrame frame;
+
+    public SwingPlayerAgent(JFrame frame) {
+        this.frame = frame;
+    }
+
+    @Override
+    public HandCard chooseDiscard(Player player) {
+        HandCard[] choice = new HandCard[1];
+        DiscardDialog[] dialog = new DiscardDialog[1];
+        dialog[0] = new DiscardDialog(frame, player, new DiscardDialog.ActionListener() {
+            @Override
+            public void onCardDiscarded(Card card) {
+                choose(card);
+            }
+
+            @Override
+            public void onSpecialCardUsed(SpecialCard card) {
+                // The engine plays a special card handed back as a discard
+                choose(card);
+            }
+
+            private void choose(Card card) {
+                choice[0] = (HandCard) card;
+                dialog[0].dispose();
+            }
+        });
+        dialog[0].setVisible(true);
+        return choice[0];
+    }
+
+    @Override
+    public Lift chooseHelicopterLift(Player player, List<Tile> destinations) {
+        Lift[] choice = new Lift[1];
+        HelicopterLiftDialog dialog = new HelicopterLiftDialog(frame, player, new HelicopterLiftDialog.ActionListener() {
+            @Override
+            public void onPlayersSelected(List<Player> selectedPlayers, Tile destinationTile) {
+                choice[0] = new Lift(selectedPlayers, destinationTile);
+            }
+
+            @Override
+            public void onActionCancelled() {
+                // Do nothing when canceling the operation
+            }
+        });
+        dialog.setVisible(true);
+        return choice[0];
+    }
+
+    @Override
+    public Tile chooseSandbagTile(Player player, List<Tile> floodedTiles) {
+        return selectTile("Sandbag: Select the tile to shore up:", "Sandbag", floodedTiles);
+    }
+
+    @Override
+    public Tile chooseSecondShoreUp(Player engineer, List<Tile> floodedTiles) {
+        return selectTile("Engineer: Select the second tile to shore up:", "Engineer", floodedTiles);
+    }
+
+    @Override
+    public Tile chooseEscapeTile(Player player, List<Tile> escapeTiles) {
+        return selectTile("Player " + player.getPlayerId() + ": your tile sank. Select the tile to swim to:",
+                "Swim", escapeTiles);
+    }
+
+    @Override
+    public Player chooseNavigatorTarget(Player navigator, List<Player> others) {
+        Player[] choice = new Player[1];
+        showRoleDialog(navigator, new RoleSelection() {
+            @Override
+            public void onPlayerSelected(Player targetPlayer) {
+                choice[0] = targetPlayer;
+            }
+        });
+        return choice[0];
+    }
+
+    @Override
+    public Tile chooseNavigatorStep(Player navigator, Player target, List<Tile> options, int step) {
+        return selectTile("Navigator: Select tile to move Player " + target.getPlayerId() + " (step " + (step + 1) + "):",
+                "Navigator Move", options);
+    }
+
+    @Override
+    public Gift chooseMessengerGift(Player messenger, List<Player> others) {
+        Player[] receiver = new Player[1];
+        TreasureCard[] card = new TreasureCard[1];
+        showRoleDialog(messenger, new RoleSelection() {
+            @Override
+            public void onPlayerSelected(Player targetPlayer) {
+                receiver[0] = targetPlayer;
+            }
+
+            @Override
+            public void onCardSelected(TreasureCard selectedCard) {
+                card[0] = selectedCard;
+            }
+        });
+        return receiver[0] == null || card[0] == null ? null : new Gift(receiver[0], card[0]);
+    }
+
+    private Tile selectTile(String message, String title, List<Tile> options) {
+        if (options.isEmpty()) {
+            return null;
+        }
+        return (Tile) JOptionPane.showInputDialog(frame, message, title, JOptionPane.PLAIN_MESSAGE,
+                null, options.toArray(), options.get(0));
+    }
+
+    private void showRoleDialog(Player player, RoleSelection selection) {
+        new RoleActionDialog(frame, player, selection).setVisible(true);
+    }
+
+    /**
+     * Role dialog listener that ignores whatever a prompt does not ask for.
+     */
+    private static class RoleSelection implements RoleActionDialog.ActionListener {
+        @Override
+        public void onTileSelected(Tile tile) {}
+
+        @Override
+        public void onPlayerSelected(Player targetPlayer) {}
+
+        @Override
+        public void onCardSelected(TreasureCard card) {}
+
+        @Override
+        public void onActionCancelled() {}
+    }
+}
@@ -0,0 +1,93 @@
+package model;
+
+import model.enums.ActionType;
+
+/**
+ * Player actions packed into a single int, so bots and simulators can generate and apply them
+ * without allocating. Layout, from the lowest bit:
+ * action type (4 bits), target cell (6 bits), target player index (3 bits), hand card index (5 bits).
+ * Cells use the {@link BoardState} numbering.
+ */
+public final class Action {
+    private static final ActionType[] TYPES = ActionType.values();
+
+    private static final int TYPE_MASK = 0xF;
+    private static final int CELL_SHIFT = 4;
+    private static final int CELL_MASK = 0x3F;
+    private static final int PLAYER_SHIFT = 10;
+    private static final int PLAYER_MASK = 0x7;
+    private static final int HAND_SHIFT = 13;
+    private static final int HAND_MASK = 0x1F;
+
+    private Action() {
+    }
+
+    public static int move(int cell) {
+        return ActionType.MOVE.ordinal() | cell << CELL_SHIFT;
+    }
+
+    public static int shoreUp(int cell) {
+        return ActionType.SHORE_UP.ordinal() | cell << CELL_SHIFT;
+    }
+
+    /**
+     * @param targetPlayer Index of the receiving player in {@link Game#getPlayers()}
+     * @param handIndex Index of the card in the giving player's hand
+     */
+    public static int giveCard(int targetPlayer, int handIndex) {
+        return ActionType.GIVE_CARD.ordinal() | targetPlayer << PLAYER_SHIFT | handIndex << HAND_SHIFT;
+    }
+
+    /**
+     * Capture the treasure of the tile the player stands on.
+     */
+    public static int captureTreasure() {
+        return ActionType.CAPTURE_TREASURE.ordinal();
+    }
+
+    /**
+     * Play a Sandbag or Helicopter Lift card from the hand on the given cell. Costs no action point.
+     */
+    public static int useCard(int handIndex, int cell) {
+        return ActionType.USE_SPECIAL_CARD.ordinal() | cell << CELL_SHIFT | handIndex << HAND_SHIFT;
+    }
+
+    /**
+     * Give up the remaining actions of this turn.
+     */
+    public static int endTurn() {
+        return ActionType.END_TURN.ordinal();
+    }
+
+    public static ActionType type(int action) {
+        return TYPES[action & TYPE_MASK];
+    }
+
+    public static int cell(int action) {
+        return (action >>> CELL_SHIFT) & CELL_MASK;
+    }
+
+    public static int targetPlayer(int action) {
+        return (action >>> PLAYER_SHIFT) & PLAYER_MASK;
+    }
+
+    public static int handIndex(int action) {
+        return (action >>> HAND_SHIFT) & HAND_MASK;
+    }
+
+    public static String toString(int action) {
+        ActionType type = type(action);
+        switch (type) {
+            case MOVE:
+            case SHORE_UP:
+                return type + "(" + cell(action) / BoardState.COLS + "," + cell(action) % BoardState.COLS + ")";
+            case GIVE_CARD:
+                return type + "(player " + targetPlayer(action) + ", card " + handIndex(action) + ")";
+            case USE_SPECIAL_CARD:
+                return type + "(card " + handIndex(action) + ", " + cell(action) / BoardState.COLS + ","
+                        + cell(action) % BoardState.COLS + ")";
+            default:
+                return type.toString();
+        }
+    }
+}
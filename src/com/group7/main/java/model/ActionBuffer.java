@@ -0,0 +1,46 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * Reusable growable list of packed {@link Action}s.
+ * Keep one per bot or simulation thread and pass it to {@link TurnManager#generateActions}.
+ */
+public final class ActionBuffer {
+    private int[] actions;
+    private int size;
+
+    public ActionBuffer() {
+        this(64);
+    }
+
+    public ActionBuffer(int capacity) {
+        actions = new int[Math.max(capacity, 1)];
+    }
+
+    public void add(int action) {
+        if (size == actions.length) {
+            actions = Arrays.copyOf(actions, size * 2);
+        }
+        actions[size++] = action;
+    }
+
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return actions[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+}
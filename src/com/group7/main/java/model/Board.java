@@ -1,16 +1,18 @@
 package model;
 
+import model.enums.Role;
+import model.enums.TileState;
 import model.enums.TileType;
 import model.enums.TreasureType;
-import model.card.Card;
-import model.card.TreasureCard;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.Random;
-import java.util.Set;
-import java.util.Queue;
-import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import util.RandomUtils;
 
 /**
  * Represents the Forbidden Island game board.
@@ -19,19 +21,102 @@ public class Board {
     private Tile[][] tileTable; // 2D array representing the game board
     private final int rows = 6; // Number of rows
     private final int cols = 6; // Number of columns
-    private List<Tile> floodedTiles; // List of flooded tiles
-    private List<Tile> sunkTiles; // List of sunk tiles
-    private Random random;
+    private List<Tile> allTiles; // Immutable, row-major; the layout never changes once built
+    private List<Tile>[] treasureTiles; // Immutable tiles of each treasure type, by ordinal
+    private final long[] treasureMasks = new long[TreasureType.values().length];
+    // Cell masks (bit row * cols + col) kept in step with every tile mutation
+    private long presentMask;
+    private long floodedMask;
+    private long sunkMask;
+    // Lose-condition state, maintained incrementally by the tile mutators
+    private final int[] treasureTileCounts = new int[TreasureType.values().length];
+    private final int[] sunkTreasureTileCounts = new int[TreasureType.values().length];
+    private boolean helipadSunk;
+    private boolean escapeCheckDirty = true;
+    private StateObserver observer;
+    private long zobristHash; // XOR of Zobrist.tile keys of every tile's state
+    // Pawn occupancy: bit (player id - 1) of every player standing on each cell, and the pawns by that bit
+    private final int[] occupants = new int[rows * cols];
+    private final Player[] pawns = new Player[Zobrist.MAX_PLAYERS];
+    // Bumped by every tile state change and pawn move
+    private long version;
+    // Bumped by tile state changes only: reachability from a cell does not depend on where the pawns are
+    private long tileVersion;
+    // Reachability memo per (kind, cell, role); a slot is valid while its stamp equals tileVersion + 1
+    private static final int MOVES = 0;
+    private static final int SHORE_UPS = 1;
+    private static final int ESCAPES = 2;
+    private static final int ROLE_SLOTS = Role.values().length + 1; // Last slot: no role
+    private final long[] memoMasks = new long[3 * BoardState.CELLS * ROLE_SLOTS];
+    private final long[] memoStamps = new long[memoMasks.length];
+    @SuppressWarnings("unchecked")
+    private final List<Tile>[] memoLists = (List<Tile>[]) new List<?>[memoMasks.length];
+    private final long[] memoListStamps = new long[memoMasks.length];
+
+    // Direction offsets: orthogonal first, then diagonal
+    private static final int[][] DIRECTIONS = {
+        {-1, 0}, {1, 0}, {0, -1}, {0, 1},   // up, down, left, right
+        {-1, -1}, {-1, 1}, {1, -1}, {1, 1}  // diagonals
+    };
+    // Immutable neighbour lists per cell (row * cols + col), built once the layout is final
+    private List<Tile>[] orthogonalNeighbours;
+    private List<Tile>[] allNeighbours;
+    // Tile lookup by type; the first tile in row-major order wins if a type appears twice
+    private final Map<TileType, Tile> tilesByType = new EnumMap<>(TileType.class);
 
     /**
-     * Constructor, initializes the game board.
+     * Constructor, initializes the game board with the fixed reference layout.
      */
     public Board() {
+        this((SplittableRandom) null);
+    }
+
+    /**
+     * Constructor, initializes the game board.
+     * @param layoutRandom Stream used to shuffle the tiles over the island, or null for the fixed layout
+     */
+    public Board(SplittableRandom layoutRandom) {
         tileTable = new Tile[rows][cols];
-        floodedTiles = new ArrayList<>();
-        sunkTiles = new ArrayList<>();
-        random = new Random();
         initializeBoard();
+        if (layoutRandom != null) {
+            shuffleLayout(layoutRandom);
+        }
+        indexTiles();
+        buildAdjacency();
+        indexTilesByType();
+        for (Tile tile : getAllTiles()) {
+            tile.setBoard(this);
+            presentMask |= cellBit(tile);
+            zobristHash ^= Zobrist.tile(cellOf(tile), tile.getState());
+            treasureTileCounts[tile.getTreasure().ordinal()]++;
+        }
+        helipadSunk = getTileByType(TileType.FOOLS_LANDING) == null;
+    }
+
+    /**
+     * Copy of another board: same layout and tile states, fresh tiles with no players on them.
+     * Tile states are the two cell masks, so they copy as two words.
+     */
+    Board(Board source) {
+        tileTable = new Tile[rows][cols];
+        for (Tile tile : source.getAllTiles()) {
+            tileTable[tile.getRow()][tile.getCol()] =
+                    Tile.createTileForType(tile.getType(), tile.getRow(), tile.getCol(), tile.getTreasure());
+        }
+        indexTiles();
+        buildAdjacency();
+        indexTilesByType();
+        for (Tile tile : getAllTiles()) {
+            tile.setBoard(this);
+        }
+        presentMask = source.presentMask;
+        floodedMask = source.floodedMask;
+        sunkMask = source.sunkMask;
+        System.arraycopy(source.treasureTileCounts, 0, treasureTileCounts, 0, treasureTileCounts.length);
+        System.arraycopy(source.sunkTreasureTileCounts, 0, sunkTreasureTileCounts, 0, sunkTreasureTileCounts.length);
+        helipadSunk = source.helipadSunk;
+        escapeCheckDirty = source.escapeCheckDirty;
+        zobristHash = source.zobristHash;
     }
 
     /**
@@ -83,6 +168,111 @@ public class Board {
         tileTable[5][3] = Tile.createTileForType(TileType.WATCHTOWER, 5, 3);
     }
 
+    /**
+     * Randomly redistributes the tiles over the island positions, keeping the island shape.
+     */
+    private void shuffleLayout(SplittableRandom layoutRandom) {
+        List<Tile> tiles = new ArrayList<>();
+        for (Tile[] row : tileTable) {
+            for (Tile tile : row) {
+                if (tile != null) {
+                    tiles.add(tile);
+                }
+            }
+        }
+        List<int[]> positions = new ArrayList<>();
+        for (Tile tile : tiles) {
+            positions.add(new int[]{tile.getRow(), tile.getCol()});
+        }
+        RandomUtils.shuffle(positions, layoutRandom);
+
+        for (int i = 0; i < tiles.size(); i++) {
+            Tile tile = tiles.get(i);
+            int[] pos = positions.get(i);
+            tileTable[pos[0]][pos[1]] = Tile.createTileForType(tile.getType(), pos[0], pos[1], tile.getTreasure());
+        }
+    }
+
+    /**
+     * Precomputes the 4-way and 8-way neighbours of every tile.
+     */
+    @SuppressWarnings("unchecked")
+    private void buildAdjacency() {
+        orthogonalNeighbours = (List<Tile>[]) new List<?>[rows * cols];
+        allNeighbours = (List<Tile>[]) new List<?>[rows * cols];
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                if (tileTable[row][col] == null) continue;
+                List<Tile> neighbours = new ArrayList<>();
+                for (int d = 0; d < DIRECTIONS.length; d++) {
+                    if (d == 4) {
+                        // Orthogonal neighbours are a prefix of the full neighbourhood
+                        orthogonalNeighbours[row * cols + col] = immutableCopy(neighbours);
+                    }
+                    Tile neighbour = getTile(row + DIRECTIONS[d][0], col + DIRECTIONS[d][1]);
+                    if (neighbour != null) {
+                        neighbours.add(neighbour);
+                    }
+                }
+                allNeighbours[row * cols + col] = immutableCopy(neighbours);
+            }
+        }
+    }
+
+    /**
+     * Builds the all-tiles list and the per-treasure tile lists and masks once the layout is final.
+     */
+    @SuppressWarnings("unchecked")
+    private void indexTiles() {
+        List<Tile> tiles = new ArrayList<>();
+        List<Tile>[] byTreasure = (List<Tile>[]) new List<?>[TreasureType.values().length];
+        for (int i = 0; i < byTreasure.length; i++) {
+            byTreasure[i] = new ArrayList<>();
+        }
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                Tile tile = tileTable[row][col];
+                if (tile != null) {
+                    tiles.add(tile);
+                    byTreasure[tile.getTreasure().ordinal()].add(tile);
+                    treasureMasks[tile.getTreasure().ordinal()] |= cellBit(tile);
+                }
+            }
+        }
+        allTiles = immutableCopy(tiles);
+        treasureTiles = (List<Tile>[]) new List<?>[byTreasure.length];
+        for (int i = 0; i < byTreasure.length; i++) {
+            treasureTiles[i] = immutableCopy(byTreasure[i]);
+        }
+    }
+
+    /**
+     * Indexes the tiles by type for constant-time lookup.
+     */
+    private void indexTilesByType() {
+        for (Tile tile : getAllTiles()) {
+            tilesByType.putIfAbsent(tile.getType(), tile);
+        }
+    }
+
+    private static List<Tile> immutableCopy(List<Tile> tiles) {
+        return Collections.unmodifiableList(Arrays.asList(tiles.toArray(new Tile[0])));
+    }
+
+    /**
+     * Returns the cell index (row * cols + col) of a tile on this board, or -1 if the tile is not on it.
+     */
+    private int cellOf(Tile tile) {
+        if (tile == null || getTile(tile.getRow(), tile.getCol()) != tile) {
+            return -1;
+        }
+        return tile.getRow() * cols + tile.getCol();
+    }
+
+    private static long cellBit(Tile tile) {
+        return BoardState.bit(BoardState.cell(tile.getRow(), tile.getCol()));
+    }
+
     /**
      * Checks if two tiles are adjacent. The same position is considered adjacent.
      */
@@ -94,21 +284,14 @@ public class Board {
 
     // Check if Fool's Landing (helipad) is sunk
     public boolean isHelipadSunk() {
-        Tile helipad = getTileByType(TileType.FOOLS_LANDING);
-        return helipad == null || helipad.isSunk();
+        return helipadSunk;
     }
 
     // Check if all tiles for a specific treasure are sunk
     public boolean isAllTreasureTilesSunk(TreasureType treasureType) {
-        int total = 0, sunk = 0;
-        for (Tile tile : getAllTiles()) {
-            if (tile.getTreasure() == treasureType) {
-                total++;
-                if (tile.isSunk()) sunk++;
-            }
-        }
         // Both tiles must be sunk (usually there are two tiles for each treasure)
-        return total > 0 && sunk == total;
+        int total = treasureTileCounts[treasureType.ordinal()];
+        return total > 0 && sunkTreasureTileCounts[treasureType.ordinal()] == total;
     }
 
     /**
@@ -123,43 +306,55 @@ public class Board {
      * Returns the tile of a specific type.
      */
     public Tile getTileByType(TileType tileType) {
-        for (int row = 0; row < tileTable.length; row++) {
-            for (int col = 0; col < tileTable[row].length; col++) {
-                if (tileTable[row][col] != null && tileTable[row][col].getType() == tileType) {
-                    return tileTable[row][col];
-                }
-            }
-        }
-        return null;
+        return tilesByType.get(tileType);
     }
 
     /**
-     * Returns all non-null tiles.
+     * Returns all non-null tiles in row-major order.
+     * The returned list is built once and immutable.
      */
     public List<Tile> getAllTiles() {
-        List<Tile> allTiles = new ArrayList<>();
-        for (int row = 0; row < rows; row++) {
-            for (int col = 0; col < cols; col++) {
-                if (tileTable[row][col] != null) {
-                    allTiles.add(tileTable[row][col]);
-                }
-            }
-        }
         return allTiles;
     }
 
     /**
-     * Returns all flooded, but not yet sunk, tiles.
+     * Returns a snapshot of all flooded, but not yet sunk, tiles in row-major order.
+     * Use {@link #forEachFloodedTile} to visit them without allocating.
      */
     public List<Tile> getFloodedTiles() {
-        return new ArrayList<>(floodedTiles);
+        return tilesOf(floodedMask);
     }
 
     /**
-     * Returns all sunk tiles.
+     * Returns a snapshot of all sunk tiles in row-major order.
+     * Use {@link #forEachSunkTile} to visit them without allocating.
      */
     public List<Tile> getSunkTiles() {
-        return new ArrayList<>(sunkTiles);
+        return tilesOf(sunkMask);
+    }
+
+    /**
+     * Visits the flooded, but not yet sunk, tiles in row-major order.
+     */
+    public void forEachFloodedTile(Consumer<Tile> visitor) {
+        forEachTile(floodedMask, visitor);
+    }
+
+    /**
+     * Visits the sunk tiles in row-major order.
+     */
+    public void forEachSunkTile(Consumer<Tile> visitor) {
+        forEachTile(sunkMask, visitor);
+    }
+
+    /**
+     * Visits the tiles of the given cell mask in row-major order.
+     */
+    public void forEachTile(long mask, Consumer<Tile> visitor) {
+        for (; mask != 0; mask &= mask - 1) {
+            int cell = Long.numberOfTrailingZeros(mask);
+            visitor.accept(tileTable[cell / cols][cell % cols]);
+        }
     }
 
     /**
@@ -167,8 +362,8 @@ public class Board {
      */
     public void floodTile(Tile tile) {
         if (tile != null && !tile.isFlooded() && !tile.isSunk()) {
-            tile.flood();
-            floodedTiles.add(tile);
+            floodedMask |= cellBit(tile);
+            tileChanged(tile, TileState.NORMAL);
         }
     }
 
@@ -177,9 +372,11 @@ public class Board {
      */
     public void sinkTile(Tile tile) {
         if (tile != null && tile.isFlooded()) {
-            tile.sink();
-            floodedTiles.remove(tile);
-            sunkTiles.add(tile);
+            long bit = cellBit(tile);
+            floodedMask &= ~bit;
+            sunkMask |= bit;
+            sinkingChanged(tile, true);
+            tileChanged(tile, TileState.FLOODED);
             // Optionally, set the tile to null in the 2D array (sunk tiles are not restored)
             // tileTable[tile.getRow()][tile.getCol()] = null;
         }
@@ -190,114 +387,173 @@ public class Board {
      */
     public void dryTile(Tile tile) {
         if (tile != null && tile.isFlooded()) {
-            tile.shoreUp();
-            floodedTiles.remove(tile);
+            floodedMask &= ~cellBit(tile);
+            tileChanged(tile, TileState.FLOODED);
         }
     }
 
     /**
-     * Returns all tiles adjacent (up, down, left, right) to the specified tile.
+     * Force a tile into the given state, keeping the flooded and sunk lists consistent.
+     * Used when restoring a {@link BoardState} snapshot or replaying the {@link Journal}.
      */
-    public List<Tile> getAdjacentTiles(Tile tile) {
-        List<Tile> adjacentTiles = new ArrayList<>();
-        if (tile == null) return adjacentTiles;
-
-        int[] pos = getTilePosition(tile);
-        if (pos == null) return adjacentTiles;
-
-        int row = pos[0];
-        int col = pos[1];
-
-        // 检查上下左右四个方向
-        int[][] directions = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
-        for (int[] dir : directions) {
-            int newRow = row + dir[0];
-            int newCol = col + dir[1];
-            if (isValidPosition(newRow, newCol)) {
-                Tile adjacentTile = tileTable[newRow][newCol];
-                if (adjacentTile != null) {
-                    adjacentTiles.add(adjacentTile);
-                }
-            }
+    void setTileState(Tile tile, TileState state) {
+        TileState before = tile.getState();
+        if (before == state) {
+            return;
+        }
+        long bit = cellBit(tile);
+        if (tile.isSunk() != (state == TileState.SUNK)) {
+            sinkingChanged(tile, state == TileState.SUNK);
+        }
+        // Drying a tile can also close a Diver's route
+        escapeCheckDirty = true;
+        floodedMask &= ~bit;
+        sunkMask &= ~bit;
+        switch (state) {
+            case FLOODED:
+                floodedMask |= bit;
+                break;
+            case SUNK:
+                sunkMask |= bit;
+                break;
+            default:
+                break;
         }
+        tileChanged(tile, before);
+    }
 
-        return adjacentTiles;
+    /**
+     * State of a tile on this board, from the cell masks.
+     */
+    public TileState getTileState(Tile tile) {
+        long bit = cellBit(tile);
+        if ((sunkMask & bit) != 0) {
+            return TileState.SUNK;
+        }
+        return (floodedMask & bit) != 0 ? TileState.FLOODED : TileState.NORMAL;
     }
 
     /**
-     * Returns all tiles adjacent, including diagonals, to the specified tile.
+     * Updates the Zobrist hash and tells the observer after a tile left the given state.
      */
-    public List<Tile> getDiagonalAndOrthogonalTiles(Tile tile) {
-        List<Tile> reachableTiles = new ArrayList<>();
-        if (tile == null) return reachableTiles;
-
-        int[] pos = getTilePosition(tile);
-        if (pos == null) return reachableTiles;
-
-        int row = pos[0];
-        int col = pos[1];
-
-        // 检查八个方向（上下左右和对角）
-        int[][] directions = {
-            {-1, 0}, {1, 0}, {0, -1}, {0, 1},  // 上下左右
-            {-1, -1}, {-1, 1}, {1, -1}, {1, 1}  // 对角
-        };
-
-        for (int[] dir : directions) {
-            int newRow = row + dir[0];
-            int newCol = col + dir[1];
-            if (isValidPosition(newRow, newCol)) {
-                Tile reachableTile = tileTable[newRow][newCol];
-                if (reachableTile != null) {
-                    reachableTiles.add(reachableTile);
-                }
-            }
+    private void tileChanged(Tile tile, TileState before) {
+        version++;
+        tileVersion++;
+        int cell = BoardState.cell(tile.getRow(), tile.getCol());
+        zobristHash ^= Zobrist.tile(cell, before) ^ Zobrist.tile(cell, tile.getState());
+        if (observer != null) {
+            observer.tileStateChanged(tile, before);
         }
+    }
 
-        return reachableTiles;
+    /**
+     * Zobrist hash of every tile's state.
+     */
+    public long getZobristHash() {
+        return zobristHash;
+    }
+
+    void setStateObserver(StateObserver observer) {
+        this.observer = observer;
     }
 
     /**
-     * Returns all reachable tiles for the Diver (i.e., can traverse flooded and sunk tiles).
+     * Updates the lose-condition counters when a tile sinks or is restored.
+     * Escape routes only shrink when a tile sinks, so this is where the escape check becomes stale.
      */
-    public List<Tile> getReachableTilesForDiver(Tile tile) {
-        List<Tile> reachableTiles = new ArrayList<>();
-        if (tile == null) return reachableTiles;
-
-        Set<Tile> visited = new HashSet<>();
-        Queue<Tile> queue = new LinkedList<>();
-        queue.add(tile);
-        visited.add(tile);
-
-        while (!queue.isEmpty()) {
-            Tile current = queue.poll();
-            for (Tile adjacent : getAdjacentTiles(current)) {
-                if (!visited.contains(adjacent) && (adjacent.isFlooded() || !adjacent.isSunk())) {
-                    reachableTiles.add(adjacent);
-                    visited.add(adjacent);
-                    if (adjacent.isFlooded()) {
-                        queue.add(adjacent);
-                    }
-                }
-            }
+    private void sinkingChanged(Tile tile, boolean sunk) {
+        int delta = sunk ? 1 : -1;
+        sunkTreasureTileCounts[tile.getTreasure().ordinal()] += delta;
+        if (tile == getTileByType(TileType.FOOLS_LANDING)) {
+            helipadSunk = sunk;
         }
+        escapeCheckDirty = true;
+    }
+
+    /**
+     * Whether a tile sank (or a snapshot was restored) since {@link #clearEscapeCheckDirty()} was last called.
+     */
+    public boolean isEscapeCheckDirty() {
+        return escapeCheckDirty;
+    }
+
+    public void clearEscapeCheckDirty() {
+        escapeCheckDirty = false;
+    }
+
+    /**
+     * Returns all tiles adjacent (up, down, left, right) to the specified tile.
+     * The returned list is precomputed and immutable.
+     */
+    public List<Tile> getAdjacentTiles(Tile tile) {
+        int cell = cellOf(tile);
+        return cell < 0 ? Collections.emptyList() : orthogonalNeighbours[cell];
+    }
+
+    /**
+     * Returns all tiles adjacent, including diagonals, to the specified tile.
+     * The returned list is precomputed and immutable.
+     */
+    public List<Tile> getDiagonalAndOrthogonalTiles(Tile tile) {
+        int cell = cellOf(tile);
+        return cell < 0 ? Collections.emptyList() : allNeighbours[cell];
+    }
 
-        return reachableTiles;
+    /**
+     * Returns all reachable tiles for the Diver (i.e., can traverse flooded and sunk tiles).
+     */
+    public List<Tile> getReachableTilesForDiver(Tile tile) {
+        int cell = cellOf(tile);
+        if (cell < 0) return new ArrayList<>();
+        return tilesOf(Reachability.diver(BoardState.bit(cell), presentMask, floodedMask, sunkMask));
     }
 
     /**
      * Returns all tiles that are not sunk (for the Pilot).
      */
     public List<Tile> getAllNavigableTiles() {
-        List<Tile> navigableTiles = new ArrayList<>();
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                if (tileTable[i][j] != null && tileTable[i][j].isNavigable()) {
-                    navigableTiles.add(tileTable[i][j]);
-                }
-            }
+        return tilesOf(getNavigableMask());
+    }
+
+    /**
+     * Cells that hold a tile.
+     */
+    public long getPresentMask() {
+        return presentMask;
+    }
+
+    /**
+     * Cells holding a flooded, but not yet sunk, tile.
+     */
+    public long getFloodedMask() {
+        return floodedMask;
+    }
+
+    /**
+     * Cells holding a sunk tile.
+     */
+    public long getSunkMask() {
+        return sunkMask;
+    }
+
+    /**
+     * Cells holding a tile that is not sunk.
+     */
+    public long getNavigableMask() {
+        return presentMask & ~sunkMask;
+    }
+
+    /**
+     * Returns the tiles of the given cell mask in row-major order.
+     */
+    public List<Tile> tilesOf(long mask) {
+        List<Tile> tiles = new ArrayList<>(Long.bitCount(mask));
+        while (mask != 0) {
+            int cell = Long.numberOfTrailingZeros(mask);
+            tiles.add(tileTable[cell / cols][cell % cols]);
+            mask &= mask - 1;
         }
-        return navigableTiles;
+        return tiles;
     }
 
     /**
@@ -331,15 +587,47 @@ public class Board {
 
     /**
      * Returns all tiles corresponding to the specified treasure type.
+     * The returned list is built once and immutable.
      */
     public List<Tile> getTreasureTiles(TreasureType treasureType) {
-        List<Tile> treasureTiles = new ArrayList<>();
-        for (Tile tile : getAllTiles()) {
-            if (tile.getTreasure() == treasureType) {
-                treasureTiles.add(tile);
-            }
+        return treasureTiles[treasureType.ordinal()];
+    }
+
+    /**
+     * Move a pawn's occupancy bit from one tile to another; either may be null (off the board).
+     */
+    void movePawn(Player player, Tile from, Tile to) {
+        version++;
+        int slot = player.getPlayerId() - 1;
+        pawns[slot] = player;
+        if (from != null) {
+            occupants[cellOf(from)] &= ~(1 << slot);
+        }
+        if (to != null) {
+            occupants[cellOf(to)] |= 1 << slot;
         }
-        return treasureTiles;
+    }
+
+    /**
+     * Players on the tile as a bitmask, bit (player id - 1) per player.
+     */
+    public int getOccupants(Tile tile) {
+        return tile == null ? 0 : occupants[cellOf(tile)];
+    }
+
+    /**
+     * Players standing on the tile, in player id order.
+     */
+    public List<Player> getPlayersOn(Tile tile) {
+        int mask = getOccupants(tile);
+        if (mask == 0) {
+            return Collections.emptyList();
+        }
+        List<Player> players = new ArrayList<>(Integer.bitCount(mask));
+        for (; mask != 0; mask &= mask - 1) {
+            players.add(pawns[Integer.numberOfTrailingZeros(mask)]);
+        }
+        return players;
     }
 
     /**
@@ -355,31 +643,15 @@ public class Board {
             return false;
         }
 
-        // Count the number of related treasure cards in the player's hand
-        int treasureCardCount = 0;
-        for (Card card : player.getHand()) {
-            if (card instanceof TreasureCard) {
-                TreasureCard treasureCard = (TreasureCard) card;
-                if (treasureCard.getTreasureType() == tile.getTreasure()) {
-                    treasureCardCount++;
-                }
-            }
-        }
-
         // Need at least 4 of the same type of treasure card
-        return treasureCardCount >= 4;
+        return player.getTreasureCardCount(tile.getTreasure()) >= 4;
     }
 
     /**
      * Checks if the specified treasure is still collectible (i.e., has remaining non-sunk treasure tiles).
      */
     public boolean isTreasureAvailable(TreasureType treasureType) {
-        for (Tile tile : getTreasureTiles(treasureType)) {
-            if (!tile.isSunk()) {
-                return true;
-            }
-        }
-        return false;
+        return (treasureMasks[treasureType.ordinal()] & ~sunkMask) != 0;
     }
 
     /**
@@ -393,42 +665,110 @@ public class Board {
     }
 
     public int[] getTilePosition(Tile tile) {
-        for (int row = 0; row < tileTable.length; row++) {
-            for (int col = 0; col < tileTable[row].length; col++) {
-                if (tileTable[row][col] == tile) {
-                    return new int[]{row, col};
-                }
-            }
-        }
-        return null;
+        int cell = cellOf(tile);
+        return cell < 0 ? null : new int[]{cell / cols, cell % cols};
     }
 
     /**
-     * 检查位置是否有效
+     * Modification counter, bumped by every flood, sink, dry and pawn move.
+     * Anything derived from the board stays valid while the version is unchanged.
      */
-    private boolean isValidPosition(int row, int col) {
-        return row >= 0 && row < tileTable.length && col >= 0 && col < tileTable[0].length;
+    public long getVersion() {
+        return version;
     }
 
     /**
      * 获取玩家当前可移动的所有格子（只返回 tileTable 里的唯一对象）
+     * The returned list is immutable and shared until the board changes.
      */
     public List<Tile> getMovableTilesForPlayer(Player player) {
-        Tile current = player.getCurrentTile();
-        if (current == null) return new ArrayList<>();
-        List<Tile> result = new ArrayList<>();
-        if (player.getRole() == model.enums.Role.EXPLORER) {
-            result.addAll(getDiagonalAndOrthogonalTiles(current));
-        } else if (player.getRole() == model.enums.Role.DIVER) {
-            result.addAll(getReachableTilesForDiver(current));
-        } else {
-            result.addAll(getAdjacentTiles(current));
-        }
-        // 只保留未沉没的格子
-        result.removeIf(tile -> tile == null || tile.isSunk());
-        // 不能移动到自己当前格子
-        result.remove(current);
-        return result;
+        return memoTiles(MOVES, player);
+    }
+
+    /**
+     * Flooded tiles the player can shore up with one action, in row-major order.
+     * The returned list is immutable and shared until the board changes.
+     */
+    public List<Tile> getShoreUpTilesForPlayer(Player player) {
+        return memoTiles(SHORE_UPS, player);
+    }
+
+    /**
+     * Cells the player can move to with one move action, as a mask.
+     */
+    public long getMovableMask(Player player) {
+        return memoMask(MOVES, player);
+    }
+
+    /**
+     * Flooded cells the player can shore up, as a mask.
+     */
+    public long getShoreUpMask(Player player) {
+        return memoMask(SHORE_UPS, player);
+    }
+
+    /**
+     * Tile at the given cell index, or null.
+     */
+    public Tile getTileAtCell(int cell) {
+        return cell < 0 || cell >= rows * cols ? null : tileTable[cell / cols][cell % cols];
+    }
+
+    /**
+     * Tiles the player could swim to if their tile sank, in row-major order.
+     * The returned list is immutable and shared until the board changes.
+     */
+    public List<Tile> getEscapeTilesForPlayer(Player player) {
+        return memoTiles(ESCAPES, player);
+    }
+
+    /**
+     * Cells the player could flee to if their tile sank, as a mask. Zero means the player is trapped.
+     */
+    public long getEscapeMask(Player player) {
+        return memoMask(ESCAPES, player);
+    }
+
+    /**
+     * Memo slot of a reachability query for the player's cell and role, or -1 if the player is off the board.
+     */
+    private int memoSlot(int kind, Player player) {
+        int cell = cellOf(player.getCurrentTile());
+        if (cell < 0) return -1;
+        int role = player.getRole() == null ? ROLE_SLOTS - 1 : player.getRole().ordinal();
+        return (kind * BoardState.CELLS + cell) * ROLE_SLOTS + role;
+    }
+
+    private long memoMask(int kind, Player player) {
+        int slot = memoSlot(kind, player);
+        if (slot < 0) return 0;
+        if (memoStamps[slot] != tileVersion + 1) {
+            int cell = cellOf(player.getCurrentTile());
+            Role role = player.getRole();
+            switch (kind) {
+                case MOVES:
+                    memoMasks[slot] = Reachability.moves(role, cell, presentMask, floodedMask, sunkMask);
+                    break;
+                case SHORE_UPS:
+                    memoMasks[slot] = Reachability.shoreUps(role, cell, floodedMask);
+                    break;
+                default:
+                    memoMasks[slot] = Reachability.escapes(role, cell, presentMask, floodedMask, sunkMask);
+                    break;
+            }
+            memoStamps[slot] = tileVersion + 1;
+        }
+        return memoMasks[slot];
+    }
+
+    private List<Tile> memoTiles(int kind, Player player) {
+        int slot = memoSlot(kind, player);
+        if (slot < 0) return Collections.emptyList();
+        if (memoListStamps[slot] != tileVersion + 1) {
+            memoLists[slot] = Collections.unmodifiableList(tilesOf(memoMask(kind, player)));
+            memoListStamps[slot] = tileVersion + 1;
+        }
+        return memoLists[slot];
     }
 
     /**
@@ -0,0 +1,245 @@
+package model;
+
+import model.enums.TileState;
+
+import java.util.List;
+
+/**
+ * Compact snapshot of the island for search and simulation.
+ * Tile presence, flooded and sunk status are 64-bit masks over the 6x6 grid
+ * (bit {@code row * 6 + col}), and up to four player positions are packed into one long,
+ * so copying, hashing and comparing a state never walks an object graph.
+ */
+public final class BoardState {
+    public static final int ROWS = 6;
+    public static final int COLS = 6;
+    public static final int CELLS = ROWS * COLS;
+    public static final int MAX_PLAYERS = 4;
+    public static final int NO_CELL = 0xFF;
+
+    /** Mask with one bit per grid cell. */
+    public static final long ALL_CELLS = (1L << CELLS) - 1;
+    private static final long FIRST_COLUMN = columnMask(0);
+    private static final long LAST_COLUMN = columnMask(COLS - 1);
+
+    private long tiles;     // Cells that hold a tile
+    private long flooded;   // Flooded (not sunk) tiles
+    private long sunk;      // Sunk tiles
+    private long positions; // 8 bits per player: cell index, or NO_CELL
+    private int playerCount;
+
+    public BoardState() {
+        positions = -1L; // Every slot NO_CELL
+    }
+
+    /**
+     * Copy constructor; O(1).
+     */
+    public BoardState(BoardState other) {
+        copyFrom(other);
+    }
+
+    /**
+     * Snapshot an existing board and the players on it (player i is {@code players.get(i)}).
+     */
+    public static BoardState from(Board board, List<Player> players) {
+        if (players.size() > MAX_PLAYERS) {
+            throw new IllegalArgumentException("At most " + MAX_PLAYERS + " players are supported.");
+        }
+        BoardState state = new BoardState();
+        for (Tile tile : board.getAllTiles()) {
+            long bit = bit(cell(tile.getRow(), tile.getCol()));
+            state.tiles |= bit;
+            if (tile.isSunk()) {
+                state.sunk |= bit;
+            } else if (tile.isFlooded()) {
+                state.flooded |= bit;
+            }
+        }
+        state.playerCount = players.size();
+        for (int i = 0; i < players.size(); i++) {
+            Tile tile = players.get(i).getCurrentTile();
+            state.setPlayerCell(i, tile == null ? NO_CELL : cell(tile.getRow(), tile.getCol()));
+        }
+        return state;
+    }
+
+    /**
+     * Write this state back into a board and its players. The board must have the same layout.
+     */
+    public void applyTo(Board board, List<Player> players) {
+        for (Tile tile : board.getAllTiles()) {
+            board.setTileState(tile, getTileState(cell(tile.getRow(), tile.getCol())));
+        }
+        for (int i = 0; i < players.size() && i < playerCount; i++) {
+            int cell = getPlayerCell(i);
+            Tile tile = cell == NO_CELL ? null : board.getTile(cell / COLS, cell % COLS);
+            players.get(i).setCurrentTile(tile);
+        }
+    }
+
+    public BoardState copy() {
+        return new BoardState(this);
+    }
+
+    /**
+     * Overwrite this state with another one without allocating.
+     */
+    public void copyFrom(BoardState other) {
+        tiles = other.tiles;
+        flooded = other.flooded;
+        sunk = other.sunk;
+        positions = other.positions;
+        playerCount = other.playerCount;
+    }
+
+    /************ Cell helpers ************/
+
+    public static int cell(int row, int col) {
+        return row * COLS + col;
+    }
+
+    public static long bit(int cell) {
+        return 1L << cell;
+    }
+
+    private static long columnMask(int col) {
+        long mask = 0;
+        for (int row = 0; row < ROWS; row++) {
+            mask |= bit(cell(row, col));
+        }
+        return mask;
+    }
+
+    /**
+     * Cells orthogonally adjacent to any cell of the mask.
+     */
+    public static long neighbours4(long mask) {
+        return (((mask << 1) & ~FIRST_COLUMN)
+                | ((mask >>> 1) & ~LAST_COLUMN)
+                | (mask << COLS)
+                | (mask >>> COLS)) & ALL_CELLS;
+    }
+
+    /**
+     * Cells orthogonally or diagonally adjacent to any cell of the mask.
+     */
+    public static long neighbours8(long mask) {
+        return (neighbours4(mask)
+                | ((mask << (COLS + 1)) & ~FIRST_COLUMN)
+                | ((mask << (COLS - 1)) & ~LAST_COLUMN)
+                | ((mask >>> (COLS - 1)) & ~FIRST_COLUMN)
+                | ((mask >>> (COLS + 1)) & ~LAST_COLUMN)) & ALL_CELLS;
+    }
+
+    /************ Tiles ************/
+
+    public long getTileMask() {
+        return tiles;
+    }
+
+    public long getFloodedMask() {
+        return flooded;
+    }
+
+    public long getSunkMask() {
+        return sunk;
+    }
+
+    /**
+     * Tiles a pawn may stand on (present and not sunk).
+     */
+    public long getNavigableMask() {
+        return tiles & ~sunk;
+    }
+
+    public boolean hasTile(int cell) {
+        return (tiles & bit(cell)) != 0;
+    }
+
+    public TileState getTileState(int cell) {
+        long bit = bit(cell);
+        if ((sunk & bit) != 0) return TileState.SUNK;
+        if ((flooded & bit) != 0) return TileState.FLOODED;
+        return TileState.NORMAL;
+    }
+
+    public void setTileState(int cell, TileState state) {
+        long bit = bit(cell);
+        flooded &= ~bit;
+        sunk &= ~bit;
+        if (state == TileState.FLOODED) {
+            flooded |= bit;
+        } else if (state == TileState.SUNK) {
+            sunk |= bit;
+        }
+    }
+
+    /************ Players ************/
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    public int getPlayerCell(int player) {
+        return (int) (positions >>> (player * 8)) & 0xFF;
+    }
+
+    public void setPlayerCell(int player, int cell) {
+        int shift = player * 8;
+        positions = (positions & ~(0xFFL << shift)) | ((long) (cell & 0xFF) << shift);
+    }
+
+    /**
+     * Cells occupied by at least one player.
+     */
+    public long getOccupiedMask() {
+        long mask = 0;
+        for (int i = 0; i < playerCount; i++) {
+            int cell = getPlayerCell(i);
+            if (cell != NO_CELL) {
+                mask |= bit(cell);
+            }
+        }
+        return mask;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BoardState)) return false;
+        BoardState other = (BoardState) o;
+        return tiles == other.tiles && flooded == other.flooded && sunk == other.sunk
+                && positions == other.positions && playerCount == other.playerCount;
+    }
+
+    @Override
+    public int hashCode() {
+        long h = tiles;
+        h = h * 0x9E3779B97F4A7C15L + flooded;
+        h = h * 0x9E3779B97F4A7C15L + sunk;
+        h = h * 0x9E3779B97F4A7C15L + positions;
+        h = h * 0x9E3779B97F4A7C15L + playerCount;
+        return Long.hashCode(h ^ (h >>> 29));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        long occupied = getOccupiedMask();
+        for (int row = 0; row < ROWS; row++) {
+            for (int col = 0; col < COLS; col++) {
+                int cell = cell(row, col);
+                char c;
+                if (!hasTile(cell)) c = ' ';
+                else if ((occupied & bit(cell)) != 0) c = 'P';
+                else if ((sunk & bit(cell)) != 0) c = 'X';
+                else if ((flooded & bit(cell)) != 0) c = '~';
+                else c = 'O';
+                sb.append(c).append("  ");
+            }
+            sb.append(System.lineSeparator());
+        }
+        return sb.toString();
+    }
+}
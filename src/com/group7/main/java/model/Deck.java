@@ -2,28 +2,72 @@ package model;
 
 import model.card.Card;
 
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.*;
+import java.util.SplittableRandom;
 
 /**
  * Generic deck class for handling cards and discard pile.
+ * The draw pile is a ring buffer whose head is the top of the deck, and the discard pile is a plain array,
+ * so drawing, discarding, shuffling and reshuffling work in place without allocating.
+ * The deck also remembers how many cards at the bottom of the draw pile have an order nobody has seen;
+ * the cards above them came from the last reshuffle of the discard pile, a set every player knows.
  */
 public class Deck<T extends Card> {
-    private Queue<T> cards;
-    private List<T> discardPile;
+    private static final int INITIAL_CAPACITY = 32;
+
+    private Object[] cards;       // Draw pile ring buffer
+    private int head;             // Index of the top card
+    private int size;             // Number of cards in the draw pile
+    private Object[] discardPile;
+    private int discardSize;
+    private final List<T> discardView = new DiscardPileView();
+    private final SplittableRandom random;
+    private StateObserver observer;
+    private long zobristHash; // Discard pile as a multiset of card kinds; the draw pile order is hidden
+    private int[] discardCounts = new int[Zobrist.CARD_KINDS]; // Discarded copies per card kind
+    // Counted from the bottom, so drawing and putting drawn cards back leave it alone; capped by size when read
+    private int hiddenCards;
 
     public Deck() {
-        this.cards = new LinkedList<>();
-        this.discardPile = new ArrayList<>();
+        this(new SplittableRandom());
+    }
+
+    /**
+     * @param random Stream used for every shuffle of this deck
+     */
+    public Deck(SplittableRandom random) {
+        this.cards = new Object[INITIAL_CAPACITY];
+        this.discardPile = new Object[INITIAL_CAPACITY];
+        this.random = random;
+    }
+
+    /**
+     * Copy of another deck with the same pile order, shuffled from now on by the given stream.
+     */
+    Deck(Deck<T> source, SplittableRandom random) {
+        this.cards = new Object[source.cards.length];
+        for (int i = 0; i < source.size; i++) {
+            cards[i] = source.cards[source.index(i)];
+        }
+        this.size = source.size;
+        this.discardPile = Arrays.copyOf(source.discardPile, source.discardPile.length);
+        this.discardSize = source.discardSize;
+        this.hiddenCards = source.hiddenCards;
+        this.zobristHash = source.zobristHash;
+        this.discardCounts = source.discardCounts.clone();
+        this.random = random;
     }
 
     /**
-     * Add a card to the deck.
+     * Add a card to the bottom of the deck.
      */
     public void addCard(T card) {
-        cards.offer(card);
+        ensureCapacity(size + 1);
+        cards[index(size)] = card;
+        hiddenCards = Math.min(hiddenCards, size) + 1;
+        size++;
     }
 
     /**
@@ -31,58 +75,111 @@ public class Deck<T extends Card> {
      * If the deck is empty, reshuffle the discard pile.
      * @return the drawn card, or null if no cards are available.
      */
+    @SuppressWarnings("unchecked")
     public T drawCard() {
         // If the deck is empty, try to reshuffle discard pile.
-        if (cards.isEmpty()) {
+        if (size == 0) {
             reshuffleDiscardPile();
             // If still empty after reshuffling, return null.
-            if (cards.isEmpty()) {
+            if (size == 0) {
                 return null;
             }
         }
-        return cards.poll();
+        T card = (T) cards[head];
+        cards[head] = null;
+        head = (head + 1) % cards.length;
+        size--;
+        if (observer != null) {
+            observer.cardDrawn(this, card);
+        }
+        return card;
     }
 
     /**
      * Add a card to the discard pile.
      */
     public void discard(T card) {
-        discardPile.add(card);
+        if (discardSize == discardPile.length) {
+            discardPile = Arrays.copyOf(discardPile, discardPile.length * 2);
+        }
+        zobristHash ^= Zobrist.discard(card, discardCounts[Zobrist.kind(card)]++);
+        discardPile[discardSize++] = card;
+        if (observer != null) {
+            observer.cardDiscarded(this, card);
+        }
     }
 
     /**
-     * Shuffle the deck.
+     * Shuffle the deck in place (Fisher-Yates over the ring buffer). Afterwards no card's position is known.
      */
     public void shuffle() {
-        List<T> tempList = new ArrayList<>(cards);
-        Collections.shuffle(tempList);
-        cards.clear();
-        cards.addAll(tempList);
+        Object[][] before = observer == null ? null : saveContents();
+        shuffleRange(0, size);
+        hiddenCards = size;
+        if (observer != null) {
+            observer.deckReordered(this, before);
+        }
+    }
+
+    /**
+     * Shuffle only what the players cannot know: the cards the last reshuffle put on top among themselves,
+     * and the cards below them among themselves. Used to sample a deal consistent with what has been seen.
+     */
+    public void shuffleUnseen() {
+        Object[][] before = observer == null ? null : saveContents();
+        int known = getReshuffledCards();
+        shuffleRange(0, known);
+        shuffleRange(known, size);
+        if (observer != null) {
+            observer.deckReordered(this, before);
+        }
+    }
+
+    /**
+     * Number of cards on top of the draw pile that came from the last reshuffle of the discard pile.
+     */
+    public int getReshuffledCards() {
+        return size - Math.min(hiddenCards, size);
     }
 
     /**
      * Reshuffle the discard pile and add it back to the top of the deck.
      */
     public void reshuffleDiscardPile() {
-        if (discardPile.isEmpty()) {
+        if (discardSize == 0) {
             return;
         }
+        Object[][] before = observer == null ? null : saveContents();
 
         // Shuffle the discard pile
-        Collections.shuffle(discardPile);
+        for (int i = discardSize - 1; i > 0; i--) {
+            swap(discardPile, i, random.nextInt(i + 1));
+        }
 
-        // Add shuffled cards to the deck
-        cards.addAll(discardPile);
+        // Place the shuffled cards on top of the deck; the cards already there keep their hidden order
+        hiddenCards = size;
+        ensureCapacity(size + discardSize);
+        for (int i = 0; i < discardSize; i++) {
+            head = (head - 1 + cards.length) % cards.length;
+            cards[head] = discardPile[i];
+            size++;
+        }
 
         // Clear the discard pile
-        discardPile.clear();
+        Arrays.fill(discardPile, 0, discardSize, null);
+        discardSize = 0;
+        zobristHash = 0;
+        Arrays.fill(discardCounts, 0);
+        if (observer != null) {
+            observer.deckReordered(this, before);
+        }
     }
 
     /**
      * Get the number of cards remaining in the deck.
      */
     public int getRemainingCards() {
-        return cards.size();
+        return size;
     }
 
     /**
@@ -90,21 +187,137 @@ public class Deck<T extends Card> {
      * @return discard pile size
      */
     public int getDiscardPileSize() {
-        return discardPile.size();
+        return discardSize;
+    }
+
+    /**
+     * Zobrist hash of the discard pile. Cards still in the draw pile are the complement, so they need no key.
+     */
+    public long getZobristHash() {
+        return zobristHash;
     }
 
     /**
      * Check if the deck is empty.
      */
     public boolean isEmpty() {
-        return cards.isEmpty();
+        return size == 0;
     }
 
     /**
-     * Get an unmodifiable view of the discard pile.
+     * Get an unmodifiable live view of the discard pile.
      */
     public List<T> getDiscardPile() {
-        return Collections.unmodifiableList(discardPile);
+        return discardView;
+    }
+
+    /************ Journal support ************/
+
+    void setStateObserver(StateObserver observer) {
+        this.observer = observer;
+    }
+
+    /**
+     * Copy of the draw pile (top card first), the discard pile and the hidden card count.
+     */
+    Object[][] saveContents() {
+        Object[] drawPile = new Object[size];
+        for (int i = 0; i < size; i++) {
+            drawPile[i] = cards[index(i)];
+        }
+        return new Object[][]{drawPile, Arrays.copyOf(discardPile, discardSize), {hiddenCards}};
+    }
+
+    /**
+     * Replace both piles with contents from {@link #saveContents()}.
+     */
+    void restoreContents(Object[][] contents) {
+        Object[] drawPile = contents[0];
+        Object[] discards = contents[1];
+        cards = Arrays.copyOf(drawPile, Math.max(INITIAL_CAPACITY, drawPile.length));
+        head = 0;
+        size = drawPile.length;
+        discardPile = Arrays.copyOf(discards, Math.max(INITIAL_CAPACITY, discards.length));
+        discardSize = discards.length;
+        hiddenCards = (Integer) contents[2][0];
+        zobristHash = 0;
+        Arrays.fill(discardCounts, 0);
+        for (int i = 0; i < discardSize; i++) {
+            Card card = (Card) discardPile[i];
+            zobristHash ^= Zobrist.discard(card, discardCounts[Zobrist.kind(card)]++);
+        }
+    }
+
+    /**
+     * Put a drawn card back on top of the deck.
+     */
+    void pushTop(T card) {
+        ensureCapacity(size + 1);
+        head = (head - 1 + cards.length) % cards.length;
+        cards[head] = card;
+        size++;
+    }
+
+    void removeLastDiscard() {
+        Card card = (Card) discardPile[--discardSize];
+        discardPile[discardSize] = null;
+        zobristHash ^= Zobrist.discard(card, --discardCounts[Zobrist.kind(card)]);
+    }
+
+    /**
+     * Position in the ring buffer of the i-th card from the top.
+     */
+    private int index(int i) {
+        return (head + i) % cards.length;
+    }
+
+    /**
+     * Grow the ring buffer (unrolling it to start at 0) when it cannot hold the given number of cards.
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity <= cards.length) {
+            return;
+        }
+        Object[] grown = new Object[Math.max(capacity, cards.length * 2)];
+        for (int i = 0; i < size; i++) {
+            grown[i] = cards[index(i)];
+        }
+        cards = grown;
+        head = 0;
+    }
+
+    /**
+     * Fisher-Yates over the cards from the from-th to before the to-th, counted from the top.
+     */
+    private void shuffleRange(int from, int to) {
+        for (int i = to - 1; i > from; i--) {
+            int j = from + random.nextInt(i - from + 1);
+            swap(cards, index(i), index(j));
+        }
     }
-}
 
+    private static void swap(Object[] array, int i, int j) {
+        Object tmp = array[i];
+        array[i] = array[j];
+        array[j] = tmp;
+    }
+
+    /**
+     * Read-only view over the discard pile array, oldest card first.
+     */
+    private class DiscardPileView extends AbstractList<T> {
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            if (index < 0 || index >= discardSize) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + discardSize);
+            }
+            return (T) discardPile[index];
+        }
+
+        @Override
+        public int size() {
+            return discardSize;
+        }
+    }
+}
@@ -1,38 +1,32 @@
 package model;
 
+import lombok.AccessLevel;
 import lombok.Setter;
 import model.card.*;
 import model.enums.*;
 import model.card.HelicopterLiftCard;
-import view.gamePanel.MainFrame;
-import view.dialog.DiscardDialog;
 
 import lombok.Getter;
 import model.enums.GameState;
-import java.util.Queue;
 
 import java.util.List;
 import java.util.ArrayList;
-import java.util.LinkedList;
 
-import java.util.HashSet;
-import java.util.Set;
-import javax.swing.SwingUtilities;
-import javax.swing.JOptionPane;
+import java.util.SplittableRandom;
 import java.util.Collections;
 import model.enums.Role;
+import util.RandomUtils;
 
+/**
+ * One game session: owns its board, decks, water level, players and turn manager.
+ * The session has no UI dependency; front ends observe it through {@link GameEventListener}
+ * and any number of sessions can live in the same JVM.
+ */
 @Getter
 public class Game {
 
-    private static Game instance;
-    private MainFrame mainFrame;
     private boolean afterFloodCardDrawn = false;  // Marker for whether a flood card was just drawn
 
-    public static Game getInstance() {
-        return instance == null ? new Game() : instance;
-    }
-
     private Board board;
     private WaterLevel waterLevel;
     private List<Player> players;
@@ -40,6 +34,8 @@ public class Game {
     private Deck<HandCard> treasureDeck;
     private Deck<FloodCard> floodDeck;
     private TurnManager turnManager;
+    private final long seed;
+    private final SplittableRandom roleRandom;
 
     @Setter
     private int currentPlayerIndex;
@@ -51,12 +47,37 @@ public class Game {
 
     private int round = 1;
 
-    private Game() {
-        board = new Board();
+    // Receives every state change, e.g. a Journal; null when nothing is recording
+    private StateObserver stateObserver;
+
+    // Answers the prompts of players without an agent of their own
+    @Setter
+    private PlayerAgent defaultAgent;
+
+    private static final TreasureType[] TREASURES = {
+            TreasureType.EARTH, TreasureType.WIND, TreasureType.FIRE, TreasureType.OCEAN
+    };
+    // Player cells (8 bits each) when every player was last found able to escape
+    @Getter(AccessLevel.NONE)
+    private long escapeCheckedPositions = -1L;
+
+    public Game() {
+        this(new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Create a reproducible session. The seed is split into independent streams
+     * for the treasure deck, the flood deck, the board layout and the role assignment.
+     */
+    public Game(long seed) {
+        this.seed = seed;
+        SplittableRandom random = new SplittableRandom(seed);
+        treasureDeck = new Deck<>(random.split());
+        floodDeck = new Deck<>(random.split());
+        board = new Board(random.split());
+        roleRandom = random.split();
         waterLevel = new WaterLevel();
         players = new ArrayList<>();
-        treasureDeck = new Deck<>();
-        floodDeck = new Deck<>();
         currentPlayerIndex = 0;
         gameOver = false;
         turnManager = new TurnManager(this, players);
@@ -65,12 +86,64 @@ public class Game {
         initializeDecks();
     }
 
-    public void setMainFrame(MainFrame mainFrame) {
-        this.mainFrame = mainFrame;
+    /**
+     * Deep copy of a session: board, pawns, hands, pile order, water level and turn state.
+     * Listeners and the state observer are not copied.
+     */
+    private Game(Game source, long seed) {
+        this.seed = seed;
+        SplittableRandom random = new SplittableRandom(seed);
+        treasureDeck = new Deck<>(source.treasureDeck, random.split());
+        floodDeck = new Deck<>(source.floodDeck, random.split());
+        board = new Board(source.board);
+        roleRandom = random.split();
+        waterLevel = new WaterLevel();
+        waterLevel.setLevel(source.waterLevel.getCurrentLevel());
+        players = new ArrayList<>(source.players.size());
+        for (Player player : source.players) {
+            Tile tile = player.getCurrentTile();
+            players.add(new Player(this, player, tile == null ? null : board.getTile(tile.getRow(), tile.getCol())));
+        }
+        currentPlayerIndex = source.currentPlayerIndex;
+        gameOver = source.gameOver;
+        gameState = source.gameState;
+        round = source.round;
+        afterFloodCardDrawn = source.afterFloodCardDrawn;
+        turnManager = new TurnManager(this, players, source.turnManager);
+    }
+
+    /**
+     * Copy the session for a search or a what-if playout. The copy is independent of this session
+     * and shuffles its decks from the given seed, so shuffling the copy's draw piles samples one
+     * possible order of the cards nobody has seen yet.
+     */
+    public Game copy(long seed) {
+        return new Game(this, seed);
+    }
+
+    /**
+     * Attach an observer to every part of the session state, or detach it with null.
+     */
+    public void setStateObserver(StateObserver observer) {
+        this.stateObserver = observer;
+        board.setStateObserver(observer);
+        treasureDeck.setStateObserver(observer);
+        floodDeck.setStateObserver(observer);
+        waterLevel.setStateObserver(observer);
     }
 
-    public MainFrame getMainFrame() {
-        return mainFrame;
+    /**
+     * Zobrist hash of the session: tiles, player positions, hands, remaining actions, collected treasures,
+     * discard piles, water level, and whose turn and which phase it is.
+     * Equal states hash equally however they were reached.
+     */
+    public long getStateHash() {
+        long hash = board.getZobristHash() ^ treasureDeck.getZobristHash() ^ floodDeck.getZobristHash()
+                ^ waterLevel.getZobristHash() ^ Zobrist.turn(currentPlayerIndex, turnManager.getCurrentPhase());
+        for (Player player : players) {
+            hash ^= player.getZobristHash();
+        }
+        return hash;
     }
 
     public void addGameEventListener(GameEventListener listener) {
@@ -241,6 +314,14 @@ public class Game {
     }
 
     public void startGame(int numPlayers) {
+        startGame(numPlayers, 0);
+    }
+
+    /**
+     * Start the game with the given number of players.
+     * @param startingPlayerIndex Index (0-based) of the player who takes the first turn
+     */
+    public void startGame(int numPlayers, int startingPlayerIndex) {
         // Initialize player positions
         if (1 < numPlayers && numPlayers < 5) {
             initializePlayers(numPlayers);
@@ -253,7 +334,7 @@ public class Game {
         // Initialize players list
         players.clear();
         for (int i = 0; i < numPlayers; i++) {
-            Player player = new Player(i + 1, board.getTileByType(TileType.CORAL_PALACE));
+            Player player = new Player(this, i + 1, board.getTileByType(TileType.CORAL_PALACE));
             players.add(player);
         }
 
@@ -262,13 +343,16 @@ public class Game {
         Collections.addAll(allRoles, Role.values());
         // 去除未定义的NONE等角色（如果有）
         allRoles.removeIf(r -> r.name().equalsIgnoreCase("NONE"));
-        Collections.shuffle(allRoles);
+        RandomUtils.shuffle(allRoles, roleRandom);
         for (int i = 0; i < players.size(); i++) {
             players.get(i).setRole(allRoles.get(i));
         }
 
-        // Dialog to select starting player
-        selectStartingPlayer();
+        // Adjust player order so the starting player is first
+        if (startingPlayerIndex > 0 && startingPlayerIndex < players.size()) {
+            Collections.rotate(players, -startingPlayerIndex);
+        }
+        currentPlayerIndex = 0;
         // Shuffle decks
         treasureDeck.shuffle();
         floodDeck.shuffle();
@@ -284,61 +368,54 @@ public class Game {
     }
 
     /**
-     * Dialog for selecting starting player and adjusting player order
+     * Notifies listeners of turn start.
      */
-    private void selectStartingPlayer() {
-        String[] playerNames = players.stream().map(p -> "Player " + p.getPlayerId()).toArray(String[]::new);
-        int startIdx = JOptionPane.showOptionDialog(
-                null, "Please select the starting player", "Select Starting Player",
-                JOptionPane.DEFAULT_OPTION, JOptionPane.QUESTION_MESSAGE,
-                null, playerNames, playerNames[0]
-        );
-        if (startIdx >= 0) {
-            // Adjust player order so the selected player is first
-            Collections.rotate(players, -startIdx);
-            currentPlayerIndex = 0;
+    public void notifyTurnStarted(Player player) {
+        int roundNumber = turnManager != null ? turnManager.getRoundNumber() : round;
+        for (GameEventListener listener : eventListeners) {
+            listener.onTurnStart(player, roundNumber);
+        }
+    }
+
+    public void notifyPhaseChanged(TurnManager.TurnPhase phase) {
+        for (GameEventListener listener : eventListeners) {
+            listener.onPhaseChanged(phase);
         }
     }
 
     /**
-     * Notifies listeners of turn start and updates UI.
+     * Notifies listeners that tiles or pawns changed outside the normal turn flow
+     * (e.g. a special card was played).
      */
-    public void notifyTurnStarted(Player player) {
-        if (mainFrame != null) {
-            mainFrame.getPlayerInfoPanel().updatePlayerInfos(players, currentPlayerIndex);
-            mainFrame.addConsoleMessage("Player " + player.getPlayerId() + "'s turn started");
-            mainFrame.updateBoard(getBoard());
+    public void notifyBoardChanged() {
+        for (GameEventListener listener : eventListeners) {
+            listener.onBoardChanged(board);
         }
     }
 
-    public void notifyPhaseChanged(TurnManager.TurnPhase phase) {
-        // Notify GameController to update UI
-        if (mainFrame != null) {
-            mainFrame.updateBoard(getBoard());
-        }
+    /**
+     * Agent that makes the given player's choices: the player's own, else the default agent, else null.
+     */
+    public PlayerAgent getAgent(Player player) {
+        return player.getAgent() != null ? player.getAgent() : defaultAgent;
     }
 
     /**
      * Handle when a player's hand exceeds the limit.
+     * Listeners are told first; then the player's agent picks cards until the hand fits or it declines.
      */
     public void notifyPlayerMustDiscard(Player player) {
-        if (mainFrame == null) return;
-
-        SwingUtilities.invokeLater(() -> {
-            DiscardDialog dialog = new DiscardDialog(mainFrame, player, new DiscardDialog.ActionListener() {
-                @Override
-                public void onCardDiscarded(Card card) {
-                    playerDiscardHandCard(player, (HandCard)card);
-                }
-
-                @Override
-                public void onSpecialCardUsed(SpecialCard card) {
-                    // Use the special card
-                    card.use(player);
-                }
-            });
-            dialog.setVisible(true);
-        });
+        for (GameEventListener listener : eventListeners) {
+            listener.onPlayerMustDiscard(player);
+        }
+        PlayerAgent agent = getAgent(player);
+        while (agent != null && player.handExceedsLimit()) {
+            HandCard card = agent.chooseDiscard(player);
+            if (card == null || !player.getHand().contains(card)) {
+                return;
+            }
+            playerDiscardHandCard(player, card);
+        }
     }
 
     /**
@@ -348,12 +425,18 @@ public class Game {
         // If it's a special card, allow player to use it before discarding
         if (cardToDiscard instanceof SpecialCard) {
             SpecialCard specialCard = (SpecialCard) cardToDiscard;
-            if (specialCard.canBeUsedNow(player)) {
-                specialCard.use(player);
+            if (specialCard.canBeUsedNow(player) && specialCard.use(player)) {
                 return; // Used special card will be discarded automatically
             }
         }
 
+        discardFromHand(player, cardToDiscard);
+    }
+
+    /**
+     * Move a card from the player's hand to the treasure discard pile, without playing it.
+     */
+    public void discardFromHand(Player player, HandCard cardToDiscard) {
         player.discardCard(cardToDiscard);
         treasureDeck.discard(cardToDiscard);
 
@@ -374,11 +457,9 @@ public class Game {
 
     // Check if all players are at Fool's Landing
     private boolean allPlayersAtHelipad() {
-        for (Player player : players) {
-            Tile curr = player.getCurrentTile();
-            if (curr == null || curr.getType() != TileType.FOOLS_LANDING) return false;
-        }
-        return true;
+        // Player ids run from 1, so every pawn on the tile sets the low players.size() occupancy bits
+        Tile helipad = board.getTileByType(TileType.FOOLS_LANDING);
+        return helipad != null && board.getOccupants(helipad) == (1 << players.size()) - 1;
     }
 
     // Check if any player has a helicopter card
@@ -417,21 +498,25 @@ public class Game {
         }
 
         // 2. A treasure cannot be obtained and both related tiles are sunk
-        for (TreasureType type : TreasureType.values()) {
-            if (type == TreasureType.NONE) continue;
+        for (TreasureType type : TREASURES) {
             if (!hasTreasure(type) && board.isAllTreasureTilesSunk(type)) {
                 triggerGameFailure("Treasure " + type + " can no longer be obtained");
                 return true;
             }
         }
 
-        // 3. Any player is trapped (cannot move). Add diver exceptions as needed.
-        for (int i = 0; i < players.size(); i++) {
-            Player player = players.get(i);
-            if (!canPlayerEscape(player)) {
-                triggerGameFailure("Player " + (i + 1) + " [" + player.getRole() + "] is trapped - Game Over!");
-                return true;
+        // 3. Any player is trapped (cannot move). Only re-checked after a tile sank or a player moved.
+        long positions = packPlayerPositions();
+        if (board.isEscapeCheckDirty() || positions != escapeCheckedPositions) {
+            for (int i = 0; i < players.size(); i++) {
+                Player player = players.get(i);
+                if (!canPlayerEscape(player)) {
+                    triggerGameFailure("Player " + (i + 1) + " [" + player.getRole() + "] is trapped - Game Over!");
+                    return true;
+                }
             }
+            board.clearEscapeCheckDirty();
+            escapeCheckedPositions = positions;
         }
 
         // 4. Water level reaches the top
@@ -511,7 +596,11 @@ public class Game {
 
             // Process flood card effect
             Tile floodedTile = board.getTileByType(card.getTileType());
-            floodedTile.flood();
+            if (floodedTile.isFlooded()) {
+                board.sinkTile(floodedTile);
+            } else {
+                board.floodTile(floodedTile);
+            }
 
             // Check if there are any players on the flooded tile and handle possible rescue
             checkPlayersOnFloodedTile(floodedTile);
@@ -562,73 +651,32 @@ public class Game {
         return null;
     }
 
+    /**
+     * Packs every player's cell index into 8 bits of a long (0xFF for a player off the board).
+     */
+    private long packPlayerPositions() {
+        long packed = 0;
+        for (int i = 0; i < players.size(); i++) {
+            Tile tile = players.get(i).getCurrentTile();
+            int cell = tile == null ? BoardState.NO_CELL : BoardState.cell(tile.getRow(), tile.getCol());
+            packed |= (long) cell << (i * 8);
+        }
+        return packed;
+    }
+
     /**
      * Determines if a player can escape according to their role ability.
      * @param player The player to check.
      * @return true if the player can escape, false if trapped.
      */
     public boolean canPlayerEscape(Player player) {
-        Role role = player.getRole();
         Tile currTile = player.getCurrentTile();
-
         if (currTile == null || !currTile.isNavigable()) {
             // The player's current tile has sunk or is not passable, so is trapped
             return false;
         }
-
-        // Pilot: Can fly to any non-sunk tile
-        if (role == Role.PILOT) {
-            for (Tile tile : board.getAllTiles()) {
-                if (tile != null && tile.isNavigable()) {
-                    return true;
-                }
-            }
-            return false;
-        }
-
-        // Diver: Use BFS to find if can reach a navigable tile through sunk/flooded tiles
-        if (role == Role.DIVER) {
-            Set<Tile> visited = new HashSet<>();
-            Queue<Tile> queue = new LinkedList<>();
-            queue.add(currTile);
-            visited.add(currTile);
-
-            while (!queue.isEmpty()) {
-                Tile t = queue.poll();
-                for (Tile adj : board.getAdjacentTiles(t)) {
-                    if (adj == null || visited.contains(adj)) continue;
-                    if (adj.isNavigable()) {
-                        return true;
-                    }
-                    // Can move through flooded and sunk tiles
-                    if (adj.isFlooded() || adj.isSunk()) {
-                        queue.add(adj);
-                        visited.add(adj);
-                    }
-                }
-            }
-            return false;
-        }
-
-        // Explorer: Can move diagonally (if you implemented this feature for Role.EXPLORER, uncomment and adjust)
-        /*
-        if (role == Role.EXPLORER) {
-            for (Tile adj : board.getDiagonalAndOrthogonalTiles(currTile)) {
-                if (adj != null && adj.isNavigable()) {
-                    return true;
-                }
-            }
-            return false;
-        }
-        */
-
-        // Other roles: Only need at least one orthogonally adjacent navigable tile to escape
-        for (Tile adj : board.getAdjacentTiles(currTile)) {
-            if (adj != null && adj.isNavigable()) {
-                return true;
-            }
-        }
-        return false;
+        // Pilot flies anywhere, Diver swims through flooded and sunk tiles, Explorer also moves diagonally
+        return board.getEscapeMask(player) != 0;
     }
 
     /**
@@ -649,13 +697,6 @@ public class Game {
         for (GameEventListener listener : eventListeners) {
             listener.onGameOver(message);
         }
-
-        // Notify the main UI to update
-        if (mainFrame != null) {
-            SwingUtilities.invokeLater(() -> {
-                mainFrame.showGameOverDialog(message);
-            });
-        }
     }
 
     public Tile getTileAt(int row, int col) {
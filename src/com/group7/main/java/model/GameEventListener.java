@@ -11,6 +11,9 @@ public interface GameEventListener {
     default void onGameFailure(String reason) {}
     default void onGameVictory() {}
     default void onTreasureCaptured(Player player, TreasureType treasureType) {}
+    default void onPhaseChanged(TurnManager.TurnPhase phase) {}
+    default void onBoardChanged(Board board) {}
+    default void onPlayerMustDiscard(Player player) {}
     void onCardDiscarded(Player player, Card card);
     void onGameOver(String message);
 }
@@ -0,0 +1,268 @@
+package model;
+
+import model.card.Card;
+import model.enums.TileState;
+import model.enums.TreasureType;
+
+import java.util.Arrays;
+
+/**
+ * Undo/redo log of a game session.
+ * Each state change is kept as one small record holding the old and new value, so rolling back to a
+ * savepoint costs time proportional to the changes made since, never a copy of the game.
+ * Turn bookkeeping (current player, phase, round) is not recorded.
+ *
+ * <pre>
+ * Journal journal = new Journal(game);
+ * int savepoint = journal.savepoint();
+ * turnManager.applyAction(action);   // try a candidate
+ * journal.rollback(savepoint);       // and take it back
+ * </pre>
+ */
+public final class Journal implements StateObserver {
+    private static final int TILE = 0;
+    private static final int MOVE = 1;
+    private static final int CARD_ADDED = 2;
+    private static final int CARD_REMOVED = 3;
+    private static final int ACTIONS = 4;
+    private static final int TREASURE = 5;
+    private static final int DRAW = 6;
+    private static final int DISCARD = 7;
+    private static final int REORDER = 8;
+    private static final int WATER = 9;
+
+    private final Game game;
+
+    // One record per index: kind, the object changed, and its old and new values
+    private int[] kinds = new int[64];
+    private Object[] targets = new Object[64];
+    private Object[] oldRefs = new Object[64];
+    private Object[] newRefs = new Object[64];
+    private int[] oldValues = new int[64];
+    private int[] newValues = new int[64];
+
+    private int size;     // Records currently applied
+    private int limit;    // Records available for redo
+    private boolean replaying;
+
+    /**
+     * Create a journal and attach it to the game.
+     */
+    public Journal(Game game) {
+        this.game = game;
+        game.setStateObserver(this);
+    }
+
+    /**
+     * Position to roll back to later.
+     */
+    public int savepoint() {
+        return size;
+    }
+
+    /**
+     * Undo every change made after the savepoint. The undone changes stay available to {@link #redo}
+     * until the next new change.
+     */
+    public void rollback(int savepoint) {
+        if (savepoint < 0 || savepoint > size) {
+            throw new IllegalArgumentException("Savepoint " + savepoint + " is not behind the current position " + size);
+        }
+        replaying = true;
+        try {
+            while (size > savepoint) {
+                size--;
+                replay(size, false);
+            }
+        } finally {
+            replaying = false;
+        }
+    }
+
+    /**
+     * Re-apply undone changes up to the savepoint.
+     */
+    public void redo(int savepoint) {
+        if (savepoint < size || savepoint > limit) {
+            throw new IllegalArgumentException("Savepoint " + savepoint + " is not between " + size + " and " + limit);
+        }
+        replaying = true;
+        try {
+            while (size < savepoint) {
+                replay(size, true);
+                size++;
+            }
+        } finally {
+            replaying = false;
+        }
+    }
+
+    public boolean canRedo() {
+        return limit > size;
+    }
+
+    /**
+     * Forget every record; the current state becomes the only one.
+     */
+    public void clear() {
+        Arrays.fill(targets, 0, limit, null);
+        Arrays.fill(oldRefs, 0, limit, null);
+        Arrays.fill(newRefs, 0, limit, null);
+        size = 0;
+        limit = 0;
+    }
+
+    /**
+     * Number of records currently applied.
+     */
+    public int size() {
+        return size;
+    }
+
+    /************ Recording ************/
+
+    private void record(int kind, Object target, Object oldRef, Object newRef, int oldValue, int newValue) {
+        if (replaying) {
+            return;
+        }
+        if (size == kinds.length) {
+            int capacity = size * 2;
+            kinds = Arrays.copyOf(kinds, capacity);
+            targets = Arrays.copyOf(targets, capacity);
+            oldRefs = Arrays.copyOf(oldRefs, capacity);
+            newRefs = Arrays.copyOf(newRefs, capacity);
+            oldValues = Arrays.copyOf(oldValues, capacity);
+            newValues = Arrays.copyOf(newValues, capacity);
+        }
+        kinds[size] = kind;
+        targets[size] = target;
+        oldRefs[size] = oldRef;
+        newRefs[size] = newRef;
+        oldValues[size] = oldValue;
+        newValues[size] = newValue;
+        size++;
+        // A new change discards whatever could have been redone
+        if (limit > size) {
+            Arrays.fill(targets, size, limit, null);
+            Arrays.fill(oldRefs, size, limit, null);
+            Arrays.fill(newRefs, size, limit, null);
+        }
+        limit = size;
+    }
+
+    @Override
+    public void tileStateChanged(Tile tile, TileState before) {
+        record(TILE, tile, before, tile.getState(), 0, 0);
+    }
+
+    @Override
+    public void playerMoved(Player player, Tile from) {
+        record(MOVE, player, from, player.getCurrentTile(), 0, 0);
+    }
+
+    @Override
+    public void cardAdded(Player player, int index) {
+        record(CARD_ADDED, player, null, player.getHand().get(index), index, index);
+    }
+
+    @Override
+    public void cardRemoved(Player player, int index, Card card) {
+        record(CARD_REMOVED, player, card, null, index, index);
+    }
+
+    @Override
+    public void actionsChanged(Player player, int before) {
+        record(ACTIONS, player, null, null, before, player.getRemainingActions());
+    }
+
+    @Override
+    public void treasureCollected(Player player, TreasureType treasure) {
+        record(TREASURE, player, null, treasure, 0, 0);
+    }
+
+    @Override
+    public void cardDrawn(Deck<?> deck, Card card) {
+        record(DRAW, deck, card, null, 0, 0);
+    }
+
+    @Override
+    public void cardDiscarded(Deck<?> deck, Card card) {
+        record(DISCARD, deck, null, card, 0, 0);
+    }
+
+    @Override
+    public void deckReordered(Deck<?> deck, Object[][] before) {
+        if (!replaying) {
+            record(REORDER, deck, before, deck.saveContents(), 0, 0);
+        }
+    }
+
+    @Override
+    public void waterLevelChanged(WaterLevel waterLevel, int before) {
+        record(WATER, waterLevel, null, null, before, waterLevel.getCurrentLevel());
+    }
+
+    /************ Replaying ************/
+
+    /**
+     * Apply record i forwards (redo) or backwards (undo).
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void replay(int i, boolean forward) {
+        Object target = targets[i];
+        switch (kinds[i]) {
+            case TILE:
+                game.getBoard().setTileState((Tile) target, (TileState) (forward ? newRefs[i] : oldRefs[i]));
+                break;
+            case MOVE:
+                ((Player) target).setCurrentTile((Tile) (forward ? newRefs[i] : oldRefs[i]));
+                break;
+            case CARD_ADDED:
+                if (forward) {
+                    ((Player) target).insertCard(newValues[i], (Card) newRefs[i]);
+                } else {
+                    ((Player) target).removeCardAt(oldValues[i]);
+                }
+                break;
+            case CARD_REMOVED:
+                if (forward) {
+                    ((Player) target).removeCardAt(newValues[i]);
+                } else {
+                    ((Player) target).insertCard(oldValues[i], (Card) oldRefs[i]);
+                }
+                break;
+            case ACTIONS:
+                ((Player) target).setRemainingActions(forward ? newValues[i] : oldValues[i]);
+                break;
+            case TREASURE:
+                if (forward) {
+                    ((Player) target).addCollectedTreasure((TreasureType) newRefs[i]);
+                } else {
+                    ((Player) target).removeCollectedTreasure((TreasureType) newRefs[i]);
+                }
+                break;
+            case DRAW:
+                if (forward) {
+                    ((Deck) target).drawCard();
+                } else {
+                    ((Deck) target).pushTop((Card) oldRefs[i]);
+                }
+                break;
+            case DISCARD:
+                if (forward) {
+                    ((Deck) target).discard((Card) newRefs[i]);
+                } else {
+                    ((Deck) target).removeLastDiscard();
+                }
+                break;
+            case REORDER:
+                ((Deck<?>) target).restoreContents((Object[][]) (forward ? newRefs[i] : oldRefs[i]));
+                break;
+            case WATER:
+                ((WaterLevel) target).setLevel(forward ? newValues[i] : oldValues[i]);
+                break;
+            default:
+                throw new IllegalStateException("Unknown journal record " + kinds[i]);
+        }
+    }
+}
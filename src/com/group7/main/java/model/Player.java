@@ -1,40 +1,73 @@
 package model;
 
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.Setter;
 import model.card.*;
 import model.enums.Role;
 import model.enums.TreasureType;
 import model.enums.ActionType;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.HashSet;
+import java.util.EnumSet;
 import java.util.Set;
 
 @Getter
 public class Player {
 
+    private final Game game; // Session this player belongs to
     private int playerId;
     private Tile currentTile;
 
     private int actionsPerTurn = 3; // Number of actions per turn
     private int remainingActions;   // Remaining actions in current turn
+    @Getter(AccessLevel.NONE)
     private List<Card> hand;
+    @Getter(AccessLevel.NONE)
+    private final int[] cardCounts; // Cards in hand by Zobrist card kind, kept in step with the hand
     private final int MAX_HAND_SIZE = 5;
+    private static final TreasureType[] TREASURE_TYPES = {
+            TreasureType.EARTH, TreasureType.WIND, TreasureType.FIRE, TreasureType.OCEAN};
     private Role role; // Player's role
 
     private Set<TreasureType> collectedTreasures;
     private boolean hasUsedSpecialAbility; // Tracks special ability use, e.g. the Pilot uses once per turn
+    private long zobristHash; // Position, hand, remaining actions and collected treasures
+    @Setter
+    private PlayerAgent agent; // Answers this player's prompts; null falls back to the game's default agent
 
-    public Player(int playerId, Tile startingTile) {
+    public Player(Game game, int playerId, Tile startingTile) {
+        this.game = game;
         this.playerId = playerId;
         this.currentTile = startingTile;
         this.hand = new ArrayList<>();
-        this.collectedTreasures = new HashSet<>();
+        this.cardCounts = new int[Zobrist.CARD_KINDS];
+        this.collectedTreasures = EnumSet.noneOf(TreasureType.class);
         this.hasUsedSpecialAbility = false;
-        if (startingTile != null) {
-            startingTile.addPlayer(this);
-        }
+        occupy(null, startingTile);
+        this.zobristHash = Zobrist.position(slot(), startingTile) ^ Zobrist.actions(slot(), 0);
+    }
+
+    /**
+     * Copy of a player for a copied session, standing on the matching tile of the copied board.
+     * Cards are shared, as they hold no state.
+     */
+    Player(Game game, Player source, Tile tile) {
+        this.game = game;
+        this.playerId = source.playerId;
+        this.currentTile = tile;
+        this.actionsPerTurn = source.actionsPerTurn;
+        this.remainingActions = source.remainingActions;
+        this.hand = new ArrayList<>(source.hand);
+        this.cardCounts = source.cardCounts.clone();
+        this.role = source.role;
+        this.collectedTreasures = source.collectedTreasures.isEmpty()
+                ? EnumSet.noneOf(TreasureType.class) : EnumSet.copyOf(source.collectedTreasures);
+        this.hasUsedSpecialAbility = source.hasUsedSpecialAbility;
+        this.zobristHash = source.zobristHash;
+        occupy(null, tile);
     }
 
     public void setRole(Role role) {
@@ -45,7 +78,7 @@ public class Player {
      * Reset the player's turn state.
      */
     public void resetActionsForTurn() {
-        this.remainingActions = actionsPerTurn;
+        setRemainingActions(actionsPerTurn);
         this.hasUsedSpecialAbility = false;
     }
 
@@ -54,9 +87,7 @@ public class Player {
      */
     public void useAction() {
         if (remainingActions > 0) {
-            remainingActions--;
-            // Debug info
-            System.out.println("Player " + playerId + " used one action, " + remainingActions + " actions left.");
+            setRemainingActions(remainingActions - 1);
         }
     }
 
@@ -67,11 +98,18 @@ public class Player {
         return remainingActions;
     }
 
+    /**
+     * Cards in hand, read-only: the hand changes through the player so the card counts and hash follow it.
+     */
+    public List<Card> getHand() {
+        return Collections.unmodifiableList(hand);
+    }
+
     /**
      * Add a card to hand.
      */
     public void addCardToHand(Card card) {
-        hand.add(card);
+        insertCard(hand.size(), card);
     }
 
     /**
@@ -81,36 +119,137 @@ public class Player {
         return hand.size() > MAX_HAND_SIZE;
     }
 
+    /**
+     * Number of treasure cards of the given type in hand.
+     */
+    public int getTreasureCardCount(TreasureType treasureType) {
+        return treasureType == null || treasureType == TreasureType.NONE ? 0 : cardCounts[treasureType.ordinal()];
+    }
+
+    /**
+     * Number of treasure cards of any type in hand.
+     */
+    public int getTreasureCardCount() {
+        int count = 0;
+        for (TreasureType treasureType : TREASURE_TYPES) {
+            count += cardCounts[treasureType.ordinal()];
+        }
+        return count;
+    }
+
+    /**
+     * Number of Helicopter Lift and Sandbag cards in hand.
+     */
+    public int getSpecialCardCount() {
+        return cardCounts[Zobrist.HELICOPTER_LIFT] + cardCounts[Zobrist.SANDBAG];
+    }
+
     /**
      * Discard a card from hand.
      */
     public void discardCard(Card card) {
-        hand.remove(card);
+        int index = hand.indexOf(card);
+        if (index >= 0) {
+            removeCardAt(index);
+        }
     }
 
-    public boolean moveToTile(Tile destinationTile) {
-        if (destinationTile == null || destinationTile.isSunk() || remainingActions <= 0) return false;
-        Tile current = this.currentTile;
-        if (current == null) return false;
-        // 只允许上下左右移动
-        int dr = Math.abs(current.getRow() - destinationTile.getRow());
-        int dc = Math.abs(current.getCol() - destinationTile.getCol());
-        if ((dr == 1 && dc == 0) || (dr == 0 && dc == 1)) {
-            current.removePlayer(this);
-            this.currentTile = destinationTile;
-            this.currentTile.addPlayer(this);
-            return true;
+    void insertCard(int index, Card card) {
+        int kind = Zobrist.kind(card);
+        zobristHash ^= Zobrist.hand(slot(), card, cardCounts[kind]++);
+        hand.add(index, card);
+        StateObserver observer = observer();
+        if (observer != null) {
+            observer.cardAdded(this, index);
         }
-        return false;
     }
 
+    void removeCardAt(int index) {
+        Card card = hand.remove(index);
+        zobristHash ^= Zobrist.hand(slot(), card, --cardCounts[Zobrist.kind(card)]);
+        StateObserver observer = observer();
+        if (observer != null) {
+            observer.cardRemoved(this, index, card);
+        }
+    }
+
+    /**
+     * Place the player on a tile without spending an action or checking adjacency.
+     */
+    void setCurrentTile(Tile tile) {
+        if (currentTile == tile) {
+            return;
+        }
+        Tile from = currentTile;
+        zobristHash ^= Zobrist.position(slot(), from) ^ Zobrist.position(slot(), tile);
+        currentTile = tile;
+        occupy(from, tile);
+        StateObserver observer = observer();
+        if (observer != null) {
+            observer.playerMoved(this, from);
+        }
+    }
+
+    public boolean moveToTile(Tile destinationTile) {
+        if (!canMoveTo(destinationTile)) return false;
+        setCurrentTile(destinationTile);
+        return true;
+    }
+
+    /**
+     * Place the pawn on any tile that is not sunk, without spending an action or checking reach
+     * (e.g. a helicopter lift).
+     */
+    public boolean flyTo(Tile destinationTile) {
+        if (destinationTile == null || destinationTile.isSunk()) return false;
+        setCurrentTile(destinationTile);
+        return true;
+    }
+
+    /**
+     * Whether the destination is reachable with one move action (diagonal for the Explorer, swimming for the Diver).
+     */
     public boolean canMoveTo(Tile destinationTile) {
         if (destinationTile == null || destinationTile.isSunk() || remainingActions <= 0) return false;
-        Tile current = this.currentTile;
-        if (current == null) return false;
-        int dr = Math.abs(current.getRow() - destinationTile.getRow());
-        int dc = Math.abs(current.getCol() - destinationTile.getCol());
-        return (dr == 1 && dc == 0) || (dr == 0 && dc == 1);
+        if (currentTile == null) return false;
+        long destination = BoardState.bit(BoardState.cell(destinationTile.getRow(), destinationTile.getCol()));
+        return (game.getBoard().getMovableMask(this) & destination) != 0;
+    }
+
+    /**
+     * Give up the remaining actions of this turn.
+     */
+    void endActions() {
+        setRemainingActions(0);
+    }
+
+    void setRemainingActions(int actions) {
+        int before = remainingActions;
+        remainingActions = actions;
+        zobristHash ^= Zobrist.actions(slot(), before) ^ Zobrist.actions(slot(), actions);
+        StateObserver observer = observer();
+        if (observer != null && before != actions) {
+            observer.actionsChanged(this, before);
+        }
+    }
+
+    // Keep the board's occupancy bits in step with the pawn
+    private void occupy(Tile from, Tile to) {
+        Tile any = to != null ? to : from;
+        if (any != null && any.getBoard() != null) {
+            any.getBoard().movePawn(this, from, to);
+        }
+    }
+
+    /**
+     * Zobrist key slot of this player.
+     */
+    private int slot() {
+        return playerId - 1;
+    }
+
+    private StateObserver observer() {
+        return game == null ? null : game.getStateObserver();
     }
 
     /**
@@ -118,8 +257,7 @@ public class Player {
      */
     public void useSpecialCard(SpecialCard card) {
         if (hand.contains(card)) {
-            card.useCard(this);
-            hand.remove(card);
+            card.use(this);
         }
     }
 
@@ -130,14 +268,14 @@ public class Player {
         // Messenger can give cards anywhere
         if (role == Role.MESSENGER) {
             if (hand.contains(card)) {
-                hand.remove(card);
+                discardCard(card);
                 targetPlayer.addCardToHand(card);
                 return true;
             }
         }
         // Other roles must be on the same tile to give cards
         else if (currentTile == targetPlayer.getCurrentTile() && hand.contains(card)) {
-            hand.remove(card);
+            discardCard(card);
             targetPlayer.addCardToHand(card);
             return true;
         }
@@ -155,7 +293,19 @@ public class Player {
      * Add collected treasure.
      */
     public void addCollectedTreasure(TreasureType treasureType) {
-        collectedTreasures.add(treasureType);
+        if (collectedTreasures.add(treasureType)) {
+            zobristHash ^= Zobrist.treasure(treasureType);
+            StateObserver observer = observer();
+            if (observer != null) {
+                observer.treasureCollected(this, treasureType);
+            }
+        }
+    }
+
+    void removeCollectedTreasure(TreasureType treasureType) {
+        if (collectedTreasures.remove(treasureType)) {
+            zobristHash ^= Zobrist.treasure(treasureType);
+        }
     }
 
     /**
@@ -180,7 +330,11 @@ public class Player {
      * Get all treasure cards that can be given.
      */
     public List<TreasureCard> getGiveableTreasureCards() {
-        List<TreasureCard> giveableCards = new ArrayList<>();
+        int count = getTreasureCardCount();
+        List<TreasureCard> giveableCards = new ArrayList<>(count);
+        if (count == 0) {
+            return giveableCards;
+        }
         for (Card card : hand) {
             if (card instanceof TreasureCard) {
                 giveableCards.add((TreasureCard) card);
@@ -196,7 +350,7 @@ public class Player {
      */
     public boolean shoreUp(Tile tile) {
         if (canShoreUp(tile) && remainingActions > 0) {
-            tile.shoreUp();
+            game.getBoard().dryTile(tile);
             useAction();
             return true;
         }
@@ -207,25 +361,12 @@ public class Player {
      * Check if the player can shore up the target tile.
      */
     public boolean canShoreUp(Tile tile) {
-        if (tile == null || !tile.isFlooded()) {
+        if (tile == null || !tile.isFlooded() || currentTile == null) {
             return false;
         }
-
-        // Engineer can shore up two tiles with one action
-        if (role == Role.ENGINEER) {
-            List<Tile> reachableTiles = Game.getInstance().getBoard().getAdjacentTiles(currentTile);
-            return reachableTiles.contains(tile) || tile == currentTile;
-        }
-
-        // Explorer can shore up diagonally
-        if (role == Role.EXPLORER) {
-            List<Tile> reachableTiles = Game.getInstance().getBoard().getDiagonalAndOrthogonalTiles(currentTile);
-            return reachableTiles.contains(tile) || tile == currentTile;
-        }
-
-        // Other roles can shore up only adjacent or current tile
-        List<Tile> adjacentTiles = Game.getInstance().getBoard().getAdjacentTiles(currentTile);
-        return adjacentTiles.contains(tile) || tile == currentTile;
+        // Current or adjacent tile; the Explorer also reaches diagonally
+        long target = BoardState.bit(BoardState.cell(tile.getRow(), tile.getCol()));
+        return (game.getBoard().getShoreUpMask(this) & target) != 0;
     }
 
     /**
@@ -248,7 +389,9 @@ public class Player {
             }
 
             if (count == 4) {
-                hand.removeAll(cardsToRemove);
+                for (Card card : cardsToRemove) {
+                    discardCard(card);
+                }
                 addCollectedTreasure(treasureType);
                 useAction();
                 return true;
@@ -271,53 +414,41 @@ public class Player {
         }
 
         // Check if there are enough treasure cards
-        int treasureCardCount = 0;
-        for (Card card : hand) {
-            if (card instanceof TreasureCard && ((TreasureCard) card).getTreasureType() == treasureType) {
-                treasureCardCount++;
-            }
-        }
-
-        return treasureCardCount >= 4;
+        return getTreasureCardCount(treasureType) >= 4;
     }
 
     /**
      * Get all possible actions player can currently execute.
+     * Bots should call {@link TurnManager#generateActions} with a reused buffer instead.
      */
     public List<PossibleAction> getAvailableActions() {
-        List<PossibleAction> actions = new ArrayList<>();
-
-        // Check possible moves
-        for (Tile tile : Game.getInstance().getBoard().getAdjacentTiles(currentTile)) {
-            if (canMoveTo(tile)) {
-                actions.add(new PossibleAction(ActionType.MOVE, tile));
-            }
-        }
-
-        // Check possible shore up actions
-        for (Tile tile : Game.getInstance().getBoard().getAdjacentTiles(currentTile)) {
-            if (canShoreUp(tile)) {
-                actions.add(new PossibleAction(ActionType.SHORE_UP, tile));
-            }
-        }
-
-        // Check if can capture treasure
-        for (TreasureType treasureType : TreasureType.values()) {
-            if (canCaptureTreasure(treasureType)) {
-                actions.add(new PossibleAction(ActionType.CAPTURE_TREASURE, treasureType));
-            }
-        }
-
-        // Check if can give treasure cards to other players
-        List<TreasureCard> giveableCards = getGiveableTreasureCards();
-        if (!giveableCards.isEmpty()) {
-            for (Player otherPlayer : Game.getInstance().getPlayers()) {
-                if (otherPlayer != this && (role == Role.MESSENGER || currentTile == otherPlayer.getCurrentTile())) {
-                    actions.add(new PossibleAction(ActionType.GIVE_CARD, otherPlayer));
-                }
+        ActionBuffer buffer = new ActionBuffer();
+        game.getTurnManager().generateActions(this, buffer);
+
+        List<PossibleAction> actions = new ArrayList<>(buffer.size());
+        int lastTarget = -1;
+        for (int i = 0; i < buffer.size(); i++) {
+            int action = buffer.get(i);
+            ActionType type = Action.type(action);
+            switch (type) {
+                case MOVE:
+                case SHORE_UP:
+                    actions.add(new PossibleAction(type, game.getBoard().getTileAtCell(Action.cell(action))));
+                    break;
+                case CAPTURE_TREASURE:
+                    actions.add(new PossibleAction(type, currentTile.getTreasure()));
+                    break;
+                case GIVE_CARD:
+                    // One entry per receiving player; give actions are grouped by target
+                    if (Action.targetPlayer(action) != lastTarget) {
+                        lastTarget = Action.targetPlayer(action);
+                        actions.add(new PossibleAction(type, game.getPlayers().get(lastTarget)));
+                    }
+                    break;
+                default:
+                    break;
             }
         }
-
         return actions;
     }
 
@@ -331,14 +462,7 @@ public class Player {
         }
 
         // Check if there are enough treasure cards
-        TreasureType tileType = currentTile.getTreasure();
-        int count = 0;
-        for (Card card : hand) {
-            if (card instanceof TreasureCard && ((TreasureCard) card).getTreasureType() == tileType) {
-                count++;
-            }
-        }
-        return count >= 4;
+        return getTreasureCardCount(currentTile.getTreasure()) >= 4;
     }
 
     /**
@@ -366,7 +490,9 @@ public class Player {
 
         // Remove cards and add collected treasure
         if (count >= 4) {
-            hand.removeAll(cardsToRemove);
+            for (Card card : cardsToRemove) {
+                discardCard(card);
+            }
             addCollectedTreasure(tileType);
             return true;
         }
@@ -0,0 +1,82 @@
+package model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import model.card.HandCard;
+import model.card.TreasureCard;
+
+import java.util.List;
+
+/**
+ * Makes the choices the rules leave to a player outside the normal actions: discards, special cards
+ * and the role abilities that need a second target. The engine asks synchronously and applies the answer,
+ * so the Swing front end answers with modal dialogs and bots answer in-process at CPU speed.
+ * Attach one per player with {@link Player#setAgent}, or one for every player with {@link Game#setDefaultAgent}.
+ * Returning null cancels or skips the choice.
+ */
+public interface PlayerAgent {
+
+    /**
+     * Card to give up while the hand is over the limit. A special card that can be played now is played instead.
+     */
+    HandCard chooseDiscard(Player player);
+
+    /**
+     * Pawns to fly with a Helicopter Lift card, and where to.
+     */
+    Lift chooseHelicopterLift(Player player, List<Tile> destinations);
+
+    /**
+     * Flooded tile to shore up with a Sandbag card.
+     */
+    Tile chooseSandbagTile(Player player, List<Tile> floodedTiles);
+
+    /**
+     * Second tile the Engineer shores up with the same action.
+     * @param floodedTiles Flooded tiles within the Engineer's shore-up reach
+     */
+    Tile chooseSecondShoreUp(Player engineer, List<Tile> floodedTiles);
+
+    /**
+     * Tile to swim to after the player's tile sank. Swimming is not optional: null, or a tile
+     * that is not offered, swims to the first one.
+     * @param escapeTiles Tiles the player's role can reach from the sunk tile, never empty
+     */
+    Tile chooseEscapeTile(Player player, List<Tile> escapeTiles);
+
+    /**
+     * Player the Navigator moves.
+     */
+    Player chooseNavigatorTarget(Player navigator, List<Player> others);
+
+    /**
+     * Tile the Navigator moves the target to.
+     * @param step 0 for the first move, 1 for the optional second one
+     */
+    Tile chooseNavigatorStep(Player navigator, Player target, List<Tile> options, int step);
+
+    /**
+     * Card the Messenger sends to a player anywhere on the island.
+     */
+    Gift chooseMessengerGift(Player messenger, List<Player> others);
+
+    /**
+     * Answer to {@link #chooseHelicopterLift}.
+     */
+    @Getter
+    @AllArgsConstructor
+    final class Lift {
+        private final List<Player> passengers;
+        private final Tile destination;
+    }
+
+    /**
+     * Answer to {@link #chooseMessengerGift}.
+     */
+    @Getter
+    @AllArgsConstructor
+    final class Gift {
+        private final Player receiver;
+        private final TreasureCard card;
+    }
+}
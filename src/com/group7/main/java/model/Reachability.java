@@ -0,0 +1,74 @@
+package model;
+
+import model.enums.Role;
+
+/**
+ * Movement rules evaluated over {@link BoardState}-style cell masks.
+ * Every method works on plain longs, so asking where a pawn can go allocates nothing.
+ */
+public final class Reachability {
+
+    private Reachability() {
+    }
+
+    /**
+     * Cells the Diver can end a move on: any navigable tile reachable through
+     * orthogonally adjacent flooded or sunk tiles, excluding the start cell.
+     * @param start Mask of the start cell
+     * @param present Cells that hold a tile
+     * @param flooded Flooded tiles
+     * @param sunk Sunk tiles
+     */
+    public static long diver(long start, long present, long flooded, long sunk) {
+        long water = (flooded | sunk) & present;
+        long navigable = present & ~sunk;
+        long visited = start;
+        long frontier = start;
+        long reached = 0;
+        while (frontier != 0) {
+            long next = BoardState.neighbours4(frontier) & present & ~visited;
+            reached |= next & navigable;
+            visited |= next;
+            // Only keep swimming through water
+            frontier = next & water;
+        }
+        return reached & ~start;
+    }
+
+    /**
+     * Cells a pawn with the given role can move to with one move action.
+     * @param role Role of the pawn, or null for the basic orthogonal move
+     * @param cell Cell the pawn stands on
+     */
+    public static long moves(Role role, int cell, long present, long flooded, long sunk) {
+        long start = BoardState.bit(cell);
+        long navigable = present & ~sunk;
+        if (role == Role.DIVER) {
+            return diver(start, present, flooded, sunk);
+        }
+        if (role == Role.EXPLORER) {
+            return BoardState.neighbours8(start) & navigable;
+        }
+        return BoardState.neighbours4(start) & navigable;
+    }
+
+    /**
+     * Flooded cells a pawn with the given role can shore up: its own cell and the orthogonal
+     * neighbours, plus diagonals for the Explorer.
+     */
+    public static long shoreUps(Role role, int cell, long flooded) {
+        long start = BoardState.bit(cell);
+        long reach = role == Role.EXPLORER ? BoardState.neighbours8(start) : BoardState.neighbours4(start);
+        return (reach | start) & flooded;
+    }
+
+    /**
+     * Cells a pawn could flee to if its tile sank. Unlike {@link #moves}, the Pilot may fly to any navigable tile.
+     */
+    public static long escapes(Role role, int cell, long present, long flooded, long sunk) {
+        if (role == Role.PILOT) {
+            return present & ~sunk & ~BoardState.bit(cell);
+        }
+        return moves(role, cell, present, flooded, sunk);
+    }
+}
@@ -0,0 +1,43 @@
+package model;
+
+import model.card.Card;
+import model.enums.TileState;
+import model.enums.TreasureType;
+
+/**
+ * Receives every low-level state change of a game session right after it happened,
+ * together with the value it replaced. {@link Journal} records these to undo and redo them.
+ * Attach one with {@link Game#setStateObserver}.
+ */
+public interface StateObserver {
+
+    void tileStateChanged(Tile tile, TileState before);
+
+    void playerMoved(Player player, Tile from);
+
+    /**
+     * A card was inserted into the player's hand at the given index.
+     */
+    void cardAdded(Player player, int index);
+
+    /**
+     * The card was removed from the given index of the player's hand.
+     */
+    void cardRemoved(Player player, int index, Card card);
+
+    void actionsChanged(Player player, int before);
+
+    void treasureCollected(Player player, TreasureType treasure);
+
+    void cardDrawn(Deck<?> deck, Card card);
+
+    void cardDiscarded(Deck<?> deck, Card card);
+
+    /**
+     * The deck was shuffled or its discard pile was reshuffled into it.
+     * @param before Contents before the change, as returned by {@code Deck.saveContents()}
+     */
+    void deckReordered(Deck<?> deck, Object[][] before);
+
+    void waterLevelChanged(WaterLevel waterLevel, int before);
+}
@@ -5,34 +5,27 @@ import lombok.Getter;
 import model.enums.TileState;
 import model.enums.TileType;
 import model.enums.TreasureType;
-import java.util.ArrayList;
 import java.util.List;
 
 /***
  * Represents each cell on the island.
- * Includes type, state (normal/flooded/sunk), position and treasure info.
- * Provides flood and shoreUp methods.
+ * Includes type, position and treasure info; the state (normal/flooded/sunk) lives in the board's cell masks,
+ * so a tile is a view on its cell. State changes go through {@link Board#floodTile}, {@link Board#sinkTile}
+ * and {@link Board#dryTile}.
  */
 @Getter
 public class Tile {
     private TileType type;
-    private TileState state;
     private int row;
     private int col;
     private TreasureType treasure;
-    private boolean flooded;
-    private boolean sunk;
-    private List<Player> playersOnTile;
+    private Board board; // Board holding this tile, which tracks the pawns on it
 
     private Tile(TileType type, int row, int col, TreasureType treasure) {
         this.type = type;
-        this.state = TileState.NORMAL;
         this.row = row;
         this.col = col;
         this.treasure = treasure;
-        this.flooded = false;
-        this.sunk = false;
-        this.playersOnTile = new ArrayList<>();
     }
 
     public static Tile createTileForType(TileType type, int row, int col, TreasureType treasure) {
@@ -44,48 +37,34 @@ public class Tile {
     }
 
     /**
-     * Flood this tile.
+     * Current state, read from the board; a tile not placed on a board is normal.
      */
-    public void flood() {
-        state = TileState.FLOODED;
-        flooded = true;
-    }
-
-    /**
-     * Sink this tile.
-     */
-    public void sink() {
-        state = TileState.SUNK;
-        sunk = true;
-    }
-
-    /**
-     * Shore up this tile (remove water).
-     */
-    public void shoreUp() {
-        state = TileState.NORMAL;
-        flooded = false;
-        sunk = false;
+    public TileState getState() {
+        return board == null ? TileState.NORMAL : board.getTileState(this);
     }
 
     public boolean isFlooded() {
-        return state == TileState.FLOODED;
+        return board != null && (board.getFloodedMask() & cellBit()) != 0;
     }
 
     public boolean isSunk() {
-        return state == TileState.SUNK;
+        return board != null && (board.getSunkMask() & cellBit()) != 0;
     }
 
     /**
      * Whether the tile is navigable (not sunk).
      */
     public boolean isNavigable() {
-        return state != TileState.SUNK;
+        return !isSunk();
+    }
+
+    private long cellBit() {
+        return BoardState.bit(BoardState.cell(row, col));
     }
 
     @Override
     public String toString() {
-        return type.getDisplayName() + "(" + state + ")";
+        return type.getDisplayName() + "(" + getState() + ")";
     }
 
     /**
@@ -102,17 +81,14 @@ public class Tile {
         return type.getDisplayName();
     }
 
-    public List<Player> getPlayersOnTile() {
-        return playersOnTile;
-    }
-
-    public void addPlayer(Player player) {
-        if (!playersOnTile.contains(player)) {
-            playersOnTile.add(player);
-        }
+    void setBoard(Board board) {
+        this.board = board;
     }
 
-    public void removePlayer(Player player) {
-        playersOnTile.remove(player);
+    /**
+     * Players standing on this tile, in player id order.
+     */
+    public List<Player> getPlayersOnTile() {
+        return board == null ? List.of() : board.getPlayersOn(this);
     }
 }
\ No newline at end of file
@@ -41,6 +41,17 @@ public class TurnManager {
         this.currentPhase = TurnPhase.ACTIONS;
     }
 
+    /**
+     * Copy of another session's turn state (round and phase) for a copied session.
+     */
+    TurnManager(Game game, List<Player> players, TurnManager source) {
+        this.game = game;
+        this.players = players;
+        this.roundNumber = source.roundNumber;
+        this.currentPhase = source.currentPhase;
+        this.currentAction = source.currentAction;
+    }
+
     public Player getCurrentPlayer() {
         return players.get(game.getCurrentPlayerIndex());
     }
@@ -53,49 +64,138 @@ public class TurnManager {
         game.notifyTurnStarted(currentPlayer);
     }
 
-    // Player performs an action
-    public boolean performAction(ActionType actionType, Object... params) {
-        Player currentPlayer = getCurrentPlayer();
-        boolean actionSuccessful = false;
+    /**
+     * Fill the buffer with every legal action of the player in the action phase (the buffer is cleared first).
+     * While the player has actions left, {@link Action#endTurn()} is always included. Once they are spent,
+     * only the Sandbag and Helicopter Lift cards that can be played are listed, with {@link Action#endTurn()}
+     * to pass, and the buffer stays empty if there is no such card.
+     */
+    public void generateActions(Player player, ActionBuffer buffer) {
+        buffer.clear();
+        Tile currentTile = player.getCurrentTile();
+        if (currentTile == null) {
+            return;
+        }
+        Board board = game.getBoard();
+        List<Card> hand = player.getHand();
+        boolean actionsLeft = player.getRemainingActions() > 0;
+        if (actionsLeft) {
+            addActionPointActions(player, currentTile, buffer);
+        }
+
+        // Special cards cost no action: one entry per card kind and target cell
+        boolean sandbag = false;
+        boolean helicopter = false;
+        for (int card = 0; card < hand.size() && player.getSpecialCardCount() > 0; card++) {
+            Card c = hand.get(card);
+            long cells;
+            if (c instanceof SandbagCard && !sandbag && ((SandbagCard) c).canBeUsedNow(player)) {
+                sandbag = true;
+                cells = board.getFloodedMask();
+            } else if (c instanceof HelicopterLiftCard && !helicopter && ((HelicopterLiftCard) c).canBeUsedNow(player)) {
+                helicopter = true;
+                cells = board.getNavigableMask() & ~BoardState.bit(BoardState.cell(currentTile.getRow(), currentTile.getCol()));
+            } else {
+                continue;
+            }
+            for (; cells != 0; cells &= cells - 1) {
+                buffer.add(Action.useCard(card, Long.numberOfTrailingZeros(cells)));
+            }
+        }
+
+        if (actionsLeft || buffer.size() > 0) {
+            buffer.add(Action.endTurn());
+        }
+    }
+
+    /**
+     * Moves, shore-ups, capture and gifts: the actions that spend an action point.
+     */
+    private void addActionPointActions(Player player, Tile currentTile, ActionBuffer buffer) {
+        Board board = game.getBoard();
+
+        for (long cells = board.getMovableMask(player); cells != 0; cells &= cells - 1) {
+            buffer.add(Action.move(Long.numberOfTrailingZeros(cells)));
+        }
+        for (long cells = board.getShoreUpMask(player); cells != 0; cells &= cells - 1) {
+            buffer.add(Action.shoreUp(Long.numberOfTrailingZeros(cells)));
+        }
+        if (board.canCaptureTreasure(currentTile, player)) {
+            buffer.add(Action.captureTreasure());
+        }
+
+        // Treasure cards can go to players on the same tile, or anywhere for the Messenger.
+        // Cards of one treasure type are interchangeable, so each type is offered once per target.
+        List<Card> hand = player.getHand();
+        for (int target = 0; target < players.size() && player.getTreasureCardCount() > 0; target++) {
+            Player other = players.get(target);
+            if (other == player || (player.getRole() != Role.MESSENGER && other.getCurrentTile() != currentTile)) {
+                continue;
+            }
+            int offered = 0;
+            for (int card = 0; card < hand.size(); card++) {
+                if (hand.get(card) instanceof TreasureCard) {
+                    int type = 1 << ((TreasureCard) hand.get(card)).getTreasureType().ordinal();
+                    if ((offered & type) == 0) {
+                        offered |= type;
+                        buffer.add(Action.giveCard(target, card));
+                    }
+                }
+            }
+        }
+    }
 
-        if (currentPlayer.getRemainingActions() <= 0) {
+    /**
+     * Apply a packed {@link Action} for the current player and spend one action point if it succeeds.
+     * Special cards and ending the turn need no action point, so they are accepted once the actions are spent.
+     * Phase changes are left to the caller, so the Swing controller and the simulators can each drive the turn.
+     * @return Whether the action was legal and applied
+     */
+    public boolean applyAction(int action) {
+        Player currentPlayer = getCurrentPlayer();
+        model.enums.ActionType type = Action.type(action);
+        if (currentPlayer.getRemainingActions() <= 0
+                && type != model.enums.ActionType.USE_SPECIAL_CARD && type != model.enums.ActionType.END_TURN) {
             return false;
         }
 
-        switch (actionType) {
+        boolean actionSuccessful;
+        switch (type) {
             case MOVE:
-                if (params.length >= 1 && params[0] instanceof Tile) {
-                    Tile destinationTile = (Tile) params[0];
-                    actionSuccessful = movePlayer(currentPlayer, destinationTile);
-                }
+                actionSuccessful = movePlayer(currentPlayer, game.getBoard().getTileAtCell(Action.cell(action)));
                 break;
 
             case SHORE_UP:
-                if (params.length >= 1 && params[0] instanceof Tile) {
-                    Tile tileToShoreUp = (Tile) params[0];
-                    actionSuccessful = shoreUpTile(currentPlayer, tileToShoreUp);
-                }
+                actionSuccessful = shoreUpTile(currentPlayer, game.getBoard().getTileAtCell(Action.cell(action)));
                 break;
 
             case GIVE_CARD:
-                if (params.length >= 2 && params[0] instanceof Player && params[1] instanceof Card) {
-                    Player targetPlayer = (Player) params[0];
-                    Card cardToGive = (Card) params[1];
-                    actionSuccessful = giveCard(currentPlayer, targetPlayer, cardToGive);
-                }
+                int target = Action.targetPlayer(action);
+                int card = Action.handIndex(action);
+                actionSuccessful = target < players.size() && card < currentPlayer.getHand().size()
+                        && currentPlayer.getHand().get(card) instanceof TreasureCard
+                        && giveCard(currentPlayer, players.get(target), currentPlayer.getHand().get(card));
                 break;
+
+            case CAPTURE_TREASURE:
+                actionSuccessful = captureTreasure(currentPlayer, currentPlayer.getCurrentTile());
+                break;
+
+            case USE_SPECIAL_CARD:
+                return useSpecialCard(currentPlayer, Action.handIndex(action),
+                        game.getBoard().getTileAtCell(Action.cell(action)));
+
+            case END_TURN:
+                currentPlayer.endActions();
+                return true;
+
+            default:
+                return false;
         }
 
         if (actionSuccessful) {
             currentPlayer.useAction();
-            // If player runs out of action points, automatically go to the next phase
-            if (currentPlayer.getRemainingActions() <= 0) {
-                nextPhase();
-            }
-            // Notify that game state changed
-            game.notifyTurnStarted(currentPlayer);
         }
-
         return actionSuccessful;
     }
 
@@ -105,59 +205,48 @@ public class TurnManager {
             return false;
         }
 
-        Tile currentTile = player.getCurrentTile();
-        List<Tile> reachableTiles;
-
-        // Get reachable tiles based on player's role
-        if (player.getRole() == Role.EXPLORER) {
-            reachableTiles = game.getBoard().getDiagonalAndOrthogonalTiles(currentTile);
-        } else if (player.getRole() == Role.DIVER) {
-            reachableTiles = game.getBoard().getReachableTilesForDiver(currentTile);
-        } else {
-            reachableTiles = game.getBoard().getAdjacentTiles(currentTile);
-        }
-
-        if (reachableTiles.contains(destinationTile)) {
+        // Reachable cells depend on the player's role
+        long destination = BoardState.bit(BoardState.cell(destinationTile.getRow(), destinationTile.getCol()));
+        if ((game.getBoard().getMovableMask(player) & destination) != 0) {
             return player.moveToTile(destinationTile);
         }
 
         return false;
     }
 
+    // Play a Sandbag or Helicopter Lift card on the given tile; the card is discarded once used
+    private boolean useSpecialCard(Player player, int handIndex, Tile tile) {
+        if (handIndex >= player.getHand().size()) {
+            return false;
+        }
+        Card card = player.getHand().get(handIndex);
+        if (!(card instanceof SandbagCard) && !(card instanceof HelicopterLiftCard)) {
+            return false;
+        }
+        return ((SpecialCard) card).use(player, tile);
+    }
+
     // Shore up tile
     private boolean shoreUpTile(Player player, Tile tile) {
-        if (tile == null || !tile.isFlooded() || tile.isSunk()) {
+        if (tile == null || !tile.isFlooded()) {
             return false;
         }
 
-        // Engineer can shore up two tiles in one action
-        if (player.getRole() == Role.ENGINEER) {
-            // Special case for Engineer
-            tile.shoreUp();
+        // Explorer can shore up diagonally, other roles only the current or an adjacent tile
+        long target = BoardState.bit(BoardState.cell(tile.getRow(), tile.getCol()));
+        if ((game.getBoard().getShoreUpMask(player) & target) != 0) {
+            game.getBoard().dryTile(tile);
             return true;
         }
 
-        // Explorer can shore up diagonally
-        if (player.getRole() == Role.EXPLORER) {
-            List<Tile> reachableTiles = game.getBoard().getDiagonalAndOrthogonalTiles(player.getCurrentTile());
-            if (reachableTiles.contains(tile)) {
-                game.getBoard().dryTile(tile);
-                return true;
-            }
-        } else {
-            // Other roles can only shore up adjacent tiles
-            List<Tile> reachableTiles = game.getBoard().getAdjacentTiles(player.getCurrentTile());
-            if (reachableTiles.contains(tile)) {
-                tile.shoreUp();
-                return true;
-            }
-        }
-
         return false;
     }
 
     // Give card to another player
     private boolean giveCard(Player fromPlayer, Player toPlayer, Card card) {
+        if (fromPlayer == toPlayer) {
+            return false;
+        }
         // Messenger can give cards anywhere
         if (fromPlayer.getRole() == Role.MESSENGER) {
             return fromPlayer.giveCardToPlayer(toPlayer, card);
@@ -204,23 +293,35 @@ public class TurnManager {
         return true;
     }
 
-    // Go to the next phase
+    /**
+     * Leave the current phase and keep running the automatic phases (draw treasure, draw flood, end of turn)
+     * in a loop until the game needs input again: the next player's action phase, a discard the agent did not
+     * complete, or the end of the game. Calling it while a discard is pending resumes with the flood draw.
+     */
     public void nextPhase() {
+        while (!game.isGameOver() && advance()) {
+            // Each pass runs one phase transition, so a turn never nests stack frames
+        }
+    }
+
+    /**
+     * Run one phase transition.
+     * @return Whether the next transition runs on its own, false at a suspend point
+     */
+    private boolean advance() {
         switch (currentPhase) {
             case ACTIONS:
-                currentPhase = TurnPhase.DRAW_TREASURE;
-                drawTreasureCards();
-                break;
+                enterPhase(TurnPhase.DRAW_TREASURE);
+                return drawTreasureCards();
 
             case DRAW_TREASURE:
-                currentPhase = TurnPhase.DRAW_FLOOD;
+                enterPhase(TurnPhase.DRAW_FLOOD);
                 drawFloodCards();
-                break;
+                return true;
 
             case DRAW_FLOOD:
-                currentPhase = TurnPhase.END;
-                endTurn();
-                break;
+                enterPhase(TurnPhase.END);
+                return endTurn();
 
             case END:
                 // Switch to next player
@@ -229,17 +330,31 @@ public class TurnManager {
                 if (nextIndex == 0) {
                     roundNumber++;
                 }
-                // Start the next player's turn
-                currentPhase = TurnPhase.ACTIONS;  // Reset to action phase
+                // Start the next player's turn and wait for their actions
                 startPlayerTurn();
-                break;
+                enterPhase(TurnPhase.ACTIONS);
+                return false;
+
+            default:
+                return false;
         }
+    }
+
+    private void enterPhase(TurnPhase phase) {
+        currentPhase = phase;
         // Notify GameController that phase changed
-        game.notifyPhaseChanged(currentPhase);
+        game.notifyPhaseChanged(phase);
+    }
+
+    /**
+     * Whether the turn is suspended until the current player gets back to the hand limit.
+     */
+    public boolean isAwaitingDiscard() {
+        return currentPhase == TurnPhase.DRAW_TREASURE && getCurrentPlayer().handExceedsLimit();
     }
 
-    // Draw treasure cards
-    private void drawTreasureCards() {
+    // Draw treasure cards; false if the turn waits for a discard
+    private boolean drawTreasureCards() {
         Player currentPlayer = getCurrentPlayer();
         boolean waterRiseCardDrawn = false;
 
@@ -262,17 +377,15 @@ public class TurnManager {
             // Add normal card to hand
             if (card != null) {
                 currentPlayer.addCardToHand(card);
-
-                // Check hand limit
-                if (currentPlayer.handExceedsLimit()) {
-                    game.notifyPlayerMustDiscard(currentPlayer);
-                    return; // Wait for player to discard before continuing
-                }
             }
         }
-        if (!currentPlayer.handExceedsLimit()) {
-            nextPhase();
+
+        // Check hand limit once both cards are drawn
+        if (currentPlayer.handExceedsLimit()) {
+            game.notifyPlayerMustDiscard(currentPlayer);
+            return !currentPlayer.handExceedsLimit(); // Wait for player to discard before continuing
         }
+        return true;
     }
 
     // Draw flood cards
@@ -288,72 +401,54 @@ public class TurnManager {
                 if (tileToFlood != null) {
                     if (tileToFlood.isFlooded()) {
                         // If already flooded, sink it
-                        tileToFlood.sink();
+                        game.getBoard().sinkTile(tileToFlood);
                         // Check if any player is on the sunk tile
                         checkPlayersOnSunkTile(tileToFlood);
                     } else {
                         // If not yet flooded, flood it
-                        tileToFlood.flood();
+                        game.getBoard().floodTile(tileToFlood);
                     }
                 }
                 // Discard the flood card
                 game.getFloodDeck().discard(card);
             }
         }
-        // Enter end of turn phase
-        nextPhase();
     }
 
     private void checkPlayersOnSunkTile(Tile sunkTile) {
-        for (Player player : players) {
-            if (player.getCurrentTile() == sunkTile) {
-                // Diver can swim to an adjacent tile
-                if (player.getRole() == Role.DIVER) {
-                    List<Tile> reachableTiles = game.getBoard().getReachableTilesForDiver(sunkTile);
-                    if (!reachableTiles.isEmpty()) {
-                        player.moveToTile(reachableTiles.get(0));
-                        continue;
-                    }
-                }
-                // Check for available adjacent tiles
-                List<Tile> adjacentTiles = game.getBoard().getAdjacentTiles(sunkTile);
-                List<Tile> availableTiles = new ArrayList<>();
-
-                for (Tile tile : adjacentTiles) {
-                    if (tile.isNavigable()) {
-                        availableTiles.add(tile);
-                    }
-                }
-
-                // If there is any available adjacent tile, move to the first one
-                if (!availableTiles.isEmpty()) {
-                    player.moveToTile(availableTiles.get(0));
-                } else {
-                    // If there is nowhere to go, game over!
-                    game.triggerGameOver("A player was unable to escape from a sinking tile!");
-                }
+        Board board = game.getBoard();
+        for (Player player : new ArrayList<>(sunkTile.getPlayersOnTile())) {
+            // Swim to a tile the player's role can reach (anywhere for the Pilot), chosen by the player's agent; no action is spent
+            List<Tile> escapes = board.getEscapeTilesForPlayer(player);
+            if (!escapes.isEmpty()) {
+                PlayerAgent agent = game.getAgent(player);
+                Tile destination = agent == null ? null : agent.chooseEscapeTile(player, escapes);
+                player.setCurrentTile(destination != null && escapes.contains(destination) ? destination : escapes.get(0));
+            } else {
+                // If there is nowhere to go, game over!
+                game.triggerGameOver("A player was unable to escape from a sinking tile!");
+                return;
             }
         }
     }
 
-    // End the current turn
-    private void endTurn() {
+    // End the current turn; false if the game has ended
+    private boolean endTurn() {
         // Check if the game has ended
         if (game.checkWinCondition()) {
             game.triggerGameOver("Congratulations! You have collected all the treasures and escaped the island!");
-            return;
-        }
-        if (game.checkLoseCondition()) {
-            return; // Game has ended in checkLoseCondition
+            return false;
         }
-        // Move to the next player's turn
-        nextPhase();
+        // The game has ended in checkLoseCondition, or a player drowned during the flood draw
+        return !game.checkLoseCondition() && !game.isGameOver();
     }
 
     // Immediately end the current player's turn (for special cards or effects)
     public void forceEndTurn() {
         currentPhase = TurnPhase.END;
-        endTurn();
+        if (endTurn()) {
+            nextPhase();
+        }
     }
 
     public void setCurrentAction(ActionType action) {
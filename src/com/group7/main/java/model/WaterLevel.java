@@ -10,6 +10,7 @@ public class WaterLevel {
     private static final int[] LEVELS = {2, 2, 3, 3, 3, 4, 4, 5, 5, 6};
 
     private int level;
+    private StateObserver observer;
 
     public WaterLevel() {
         this.level = 0;  // Initial water level
@@ -20,12 +21,30 @@ public class WaterLevel {
      */
     public boolean tryRise() {
         if (level < LEVELS.length - 1) {
-            level++;
+            setLevel(level + 1);
+            if (observer != null) {
+                observer.waterLevelChanged(this, level - 1);
+            }
             return true;
         }
         return false;  // Water level has reached the maximum
     }
 
+    void setLevel(int level) {
+        this.level = level;
+    }
+
+    /**
+     * Zobrist key of the current level.
+     */
+    public long getZobristHash() {
+        return Zobrist.water(level);
+    }
+
+    void setStateObserver(StateObserver observer) {
+        this.observer = observer;
+    }
+
     /**
      * Get the number of flood cards to draw at the current water level.
      */
@@ -0,0 +1,139 @@
+package model;
+
+import model.card.Card;
+import model.card.FloodCard;
+import model.card.HelicopterLiftCard;
+import model.card.SandbagCard;
+import model.card.TreasureCard;
+import model.card.WaterRiseCard;
+import model.enums.TileState;
+import model.enums.TileType;
+import model.enums.TreasureType;
+
+import java.util.SplittableRandom;
+
+/**
+ * Random 64-bit keys for Zobrist hashing of a game state.
+ * Each part of the state XORs the keys of its features into a running hash whenever it changes
+ * ({@link Board}, {@link Player}, {@link Deck}, {@link WaterLevel}), and {@link Game#getStateHash()} combines them.
+ * Cards are hashed by kind (treasure type, special card, flooded tile), and several copies of one kind
+ * get one key per copy, so a hand or discard pile hashes as a multiset.
+ */
+public final class Zobrist {
+    /** Player slots, by player id. */
+    public static final int MAX_PLAYERS = 4;
+    private static final int POSITIONS = BoardState.CELLS + 1; // Last slot: off the board
+    private static final int MAX_COPIES = 16;
+    private static final int MAX_ACTIONS = 8;
+    private static final int MAX_LEVELS = 16;
+
+    // Card kinds: treasure types, then special cards, then one per flood card tile
+    static final int HELICOPTER_LIFT = TreasureType.values().length;
+    static final int SANDBAG = HELICOPTER_LIFT + 1;
+    private static final int WATER_RISE = SANDBAG + 1;
+    private static final int OTHER_CARD = WATER_RISE + 1;
+    private static final int FLOOD_CARDS = OTHER_CARD + 1;
+    static final int CARD_KINDS = FLOOD_CARDS + TileType.values().length;
+
+    private static final long[] TILES;
+    private static final long[] POSITION;
+    private static final long[] HAND;
+    private static final long[] ACTIONS;
+    private static final long[] TREASURES;
+    private static final long[] DISCARDS;
+    private static final long[] WATER;
+    private static final long[] TURN;
+
+    static {
+        // Fixed seed so hashes are stable between runs
+        SplittableRandom random = new SplittableRandom(0xF0B1DDE115L);
+        TILES = keys(random, BoardState.CELLS * TileState.values().length);
+        POSITION = keys(random, MAX_PLAYERS * POSITIONS);
+        HAND = keys(random, MAX_PLAYERS * CARD_KINDS * MAX_COPIES);
+        ACTIONS = keys(random, MAX_PLAYERS * MAX_ACTIONS);
+        TREASURES = keys(random, TreasureType.values().length);
+        DISCARDS = keys(random, CARD_KINDS * MAX_COPIES);
+        WATER = keys(random, MAX_LEVELS);
+        TURN = keys(random, MAX_PLAYERS * TurnManager.TurnPhase.values().length);
+    }
+
+    private Zobrist() {
+    }
+
+    private static long[] keys(SplittableRandom random, int count) {
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = random.nextLong();
+        }
+        return keys;
+    }
+
+    public static long tile(int cell, TileState state) {
+        return TILES[cell * TileState.values().length + state.ordinal()];
+    }
+
+    /**
+     * @param slot Player slot (player id - 1)
+     * @param tile Tile the player stands on, or null
+     */
+    public static long position(int slot, Tile tile) {
+        int cell = tile == null ? POSITIONS - 1 : BoardState.cell(tile.getRow(), tile.getCol());
+        return POSITION[slot(slot) * POSITIONS + cell];
+    }
+
+    /**
+     * Key of the copy-th card (0-based) of this card's kind in a player's hand.
+     */
+    public static long hand(int slot, Card card, int copy) {
+        return HAND[(slot(slot) * CARD_KINDS + kind(card)) * MAX_COPIES + Math.min(copy, MAX_COPIES - 1)];
+    }
+
+    public static long actions(int slot, int remaining) {
+        return ACTIONS[slot(slot) * MAX_ACTIONS + Math.min(remaining, MAX_ACTIONS - 1)];
+    }
+
+    public static long treasure(TreasureType treasure) {
+        return TREASURES[treasure.ordinal()];
+    }
+
+    /**
+     * Key of the copy-th card (0-based) of this card's kind in a discard pile.
+     */
+    public static long discard(Card card, int copy) {
+        return DISCARDS[kind(card) * MAX_COPIES + Math.min(copy, MAX_COPIES - 1)];
+    }
+
+    public static long water(int level) {
+        return WATER[Math.min(level, MAX_LEVELS - 1)];
+    }
+
+    public static long turn(int playerIndex, TurnManager.TurnPhase phase) {
+        return TURN[slot(playerIndex) * TurnManager.TurnPhase.values().length + phase.ordinal()];
+    }
+
+    private static int slot(int slot) {
+        return Math.floorMod(slot, MAX_PLAYERS);
+    }
+
+    /**
+     * Card kind: the treasure type's ordinal for a treasure card, then the special cards, then one per flood card tile.
+     */
+    static int kind(Card card) {
+        if (card instanceof TreasureCard) {
+            return ((TreasureCard) card).getTreasureType().ordinal();
+        }
+        if (card instanceof FloodCard) {
+            return FLOOD_CARDS + ((FloodCard) card).getTileType().ordinal();
+        }
+        if (card instanceof HelicopterLiftCard) {
+            return HELICOPTER_LIFT;
+        }
+        if (card instanceof SandbagCard) {
+            return SANDBAG;
+        }
+        if (card instanceof WaterRiseCard) {
+            return WATER_RISE;
+        }
+        return OTHER_CARD;
+    }
+}
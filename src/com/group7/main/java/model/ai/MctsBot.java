@@ -0,0 +1,521 @@
+package model.ai;
+
+import lombok.Getter;
+import lombok.Setter;
+import model.Action;
+import model.ActionBuffer;
+import model.Game;
+import model.Player;
+import model.PlayerAgent;
+import model.Tile;
+import model.TurnManager;
+import model.card.Card;
+import model.card.HandCard;
+import model.card.TreasureCard;
+import model.enums.ActionType;
+import model.enums.GameState;
+import model.enums.TreasureType;
+import model.sim.ActionPolicy;
+import model.sim.HeuristicAgent;
+import model.sim.RandomActionPolicy;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Monte Carlo Tree Search player. The tree covers the current player's turn: moves, shore-ups, card gifts,
+ * treasure captures, Sandbag and Helicopter Lift cards, and ending the turn early. Each playout runs on a
+ * copy of the game whose draw piles are shuffled as far as nobody has seen them, so the search never peeks
+ * at the hidden card order, then plays a few more turns with the {@link RandomActionPolicy} and scores the result.
+ * <p>
+ * Playouts are spread over a pool of threads, either with one tree per thread that are merged at the end
+ * ({@link Parallelism#ROOT}) or with one shared tree where virtual losses steer threads apart
+ * ({@link Parallelism#TREE}). A decision stops after {@link #getPlayouts()} playouts or
+ * {@link #getTimeLimitMillis()} milliseconds, whichever comes first.
+ * <p>
+ * Different action orders often reach the same position (move then shore up, or shore up then move).
+ * Each worker keeps a {@link TranspositionTable} keyed by {@link Game#getStateHash()}, which leaves out
+ * the hidden draw order and so is the same on every determinization. It holds the running mean of the
+ * rollouts from every position the tree has reached this decision. A playout backs up that shared mean
+ * instead of its single rollout, so transposed nodes pool their samples.
+ * <p>
+ * As a {@link PlayerAgent} it searches discards the same way and answers the other prompts with the
+ * {@link HeuristicAgent}.
+ */
+public class MctsBot implements ActionPolicy, PlayerAgent, AutoCloseable {
+    public static final int DEFAULT_PLAYOUTS = 2_000;
+    public static final int DEFAULT_ROLLOUT_TURNS = 8;
+    private static final double EXPLORATION = 0.7; // UCT constant for values in [0, 1]
+    private static final int VIRTUAL_LOSS = 3;
+    private static final PlayerAgent ROLLOUT_AGENT = new HeuristicAgent();
+    private static final int TABLE_MEGABYTES = 1; // Per worker; a decision reaches a few thousand positions
+
+    public enum Parallelism {
+        /** Every thread searches its own tree; root visit counts are summed. */
+        ROOT,
+        /** All threads search one tree, marking the paths in progress with virtual losses. */
+        TREE
+    }
+
+    @Getter
+    private final Parallelism parallelism;
+    @Getter
+    private final int threads;
+    private final ForkJoinPool pool;
+    private final TranspositionTable[] tables; // One per worker, emptied at each decision
+    private final ActionPolicy rolloutPolicy = new RandomActionPolicy();
+    private final SplittableRandom seeds = new SplittableRandom();
+
+    @Getter
+    @Setter
+    private int playouts = DEFAULT_PLAYOUTS;
+    @Getter
+    @Setter
+    private long timeLimitMillis; // 0 for no deadline
+    @Getter
+    @Setter
+    private int rolloutTurns = DEFAULT_ROLLOUT_TURNS;
+
+    // Statistics of the last decision
+    @Getter
+    private volatile int lastPlayouts;
+    @Getter
+    private volatile long lastElapsedNanos;
+    @Getter
+    private volatile long lastTranspositionHits;
+
+    public MctsBot(Parallelism parallelism, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be positive: " + threads);
+        }
+        this.parallelism = parallelism;
+        this.threads = threads;
+        this.pool = new ForkJoinPool(threads);
+        this.tables = new TranspositionTable[threads];
+        for (int i = 0; i < threads; i++) {
+            tables[i] = TranspositionTable.ofMegabytes(TABLE_MEGABYTES, TranspositionTable.ReplacementPolicy.DEPTH_PREFERRED);
+        }
+    }
+
+    /**
+     * Play the player's turn one searched action at a time, until the turn is ended. Once the actions are
+     * spent the search still decides whether to play a Sandbag or Helicopter Lift before the draws.
+     */
+    @Override
+    public void playActions(Game game, Player player, SplittableRandom random) {
+        TurnManager turnManager = game.getTurnManager();
+        ActionBuffer actions = new ActionBuffer();
+        while (!game.isGameOver()) {
+            turnManager.generateActions(player, actions);
+            if (actions.size() == 0) {
+                return;
+            }
+            int action = actions.size() == 1 ? actions.get(0) : chooseAction(game, random.nextLong());
+            if (!turnManager.applyAction(action) || Action.type(action) == ActionType.END_TURN) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Search the best next action of the current player. The game itself is not changed.
+     * @param seed Seed of the determinizations and rollouts
+     * @return A packed {@link Action}; {@link Action#endTurn()} when nothing else is legal
+     */
+    public int chooseAction(Game game, long seed) {
+        long start = System.nanoTime();
+        long deadline = deadline(start);
+        AtomicInteger budget = new AtomicInteger(playouts);
+        SplittableRandom random = new SplittableRandom(seed);
+        MctsNode shared = new MctsNode(-1, null);
+
+        List<MctsNode> roots = new ArrayList<>(threads);
+        List<ForkJoinTask<Integer>> tasks = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            // Each worker copies from its own base, so the caller's game is only read here
+            Game base = game.copy(random.nextLong());
+            SplittableRandom workerRandom = random.split();
+            MctsNode root = parallelism == Parallelism.TREE ? shared : new MctsNode(-1, null);
+            roots.add(root);
+            TranspositionTable table = tables[i];
+            table.clear();
+            tasks.add(pool.submit(() -> search(base, root, table, workerRandom, budget, deadline)));
+        }
+        int done = 0;
+        long hits = 0;
+        for (int i = 0; i < threads; i++) {
+            done += tasks.get(i).join();
+            hits += tables[i].getHits();
+        }
+        recordStatistics(done, start);
+        lastTranspositionHits = hits;
+
+        return parallelism == Parallelism.TREE ? mostVisited(shared) : mostVisited(roots);
+    }
+
+    /**
+     * Choose which card the player should discard, by playing out each choice on sampled deck orders.
+     * Cards of the same kind are tried once.
+     * @return A card of the player's hand, or null if the hand is empty
+     */
+    public HandCard chooseDiscard(Game game, Player player, long seed) {
+        List<Integer> candidates = distinctCards(player.getHand());
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        if (candidates.size() == 1) {
+            return (HandCard) player.getHand().get(candidates.get(0));
+        }
+        int playerIndex = game.getPlayers().indexOf(player);
+        long start = System.nanoTime();
+        long deadline = deadline(start);
+        AtomicInteger next = new AtomicInteger();
+        SplittableRandom random = new SplittableRandom(seed);
+
+        List<ForkJoinTask<double[]>> tasks = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            Game base = game.copy(random.nextLong());
+            SplittableRandom workerRandom = random.split();
+            tasks.add(pool.submit(() -> {
+                // Value sums, then playout counts, per candidate
+                double[] totals = new double[candidates.size() * 2];
+                int playout;
+                while ((playout = next.getAndIncrement()) < playouts && System.nanoTime() < deadline) {
+                    int candidate = playout % candidates.size();
+                    Game copy = determinize(base, workerRandom);
+                    Player copyPlayer = copy.getPlayers().get(playerIndex);
+                    copy.discardFromHand(copyPlayer, (HandCard) copyPlayer.getHand().get(candidates.get(candidate)));
+                    totals[candidate] += rollout(copy, workerRandom);
+                    totals[candidates.size() + candidate]++;
+                }
+                return totals;
+            }));
+        }
+        double[] totals = new double[candidates.size() * 2];
+        for (ForkJoinTask<double[]> task : tasks) {
+            double[] partial = task.join();
+            for (int i = 0; i < totals.length; i++) {
+                totals[i] += partial[i];
+            }
+        }
+        int done = 0;
+        int best = 0;
+        double bestMean = -1;
+        for (int i = 0; i < candidates.size(); i++) {
+            double count = totals[candidates.size() + i];
+            done += (int) count;
+            double mean = count == 0 ? 0 : totals[i] / count;
+            if (mean > bestMean) {
+                bestMean = mean;
+                best = i;
+            }
+        }
+        recordStatistics(done, start);
+        return (HandCard) player.getHand().get(candidates.get(best));
+    }
+
+    /**
+     * Discard searched cards until the player's hand is within the limit.
+     */
+    public void discardExcess(Game game, Player player, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        while (player.handExceedsLimit()) {
+            game.discardFromHand(player, chooseDiscard(game, player, random.nextLong()));
+        }
+    }
+
+    /************ Player agent ************/
+
+    @Override
+    public HandCard chooseDiscard(Player player) {
+        return chooseDiscard(player.getGame(), player, nextSeed());
+    }
+
+    @Override
+    public Lift chooseHelicopterLift(Player player, List<Tile> destinations) {
+        return ROLLOUT_AGENT.chooseHelicopterLift(player, destinations);
+    }
+
+    @Override
+    public Tile chooseSandbagTile(Player player, List<Tile> floodedTiles) {
+        return ROLLOUT_AGENT.chooseSandbagTile(player, floodedTiles);
+    }
+
+    @Override
+    public Tile chooseSecondShoreUp(Player engineer, List<Tile> floodedTiles) {
+        return ROLLOUT_AGENT.chooseSecondShoreUp(engineer, floodedTiles);
+    }
+
+    @Override
+    public Tile chooseEscapeTile(Player player, List<Tile> escapeTiles) {
+        return ROLLOUT_AGENT.chooseEscapeTile(player, escapeTiles);
+    }
+
+    @Override
+    public Player chooseNavigatorTarget(Player navigator, List<Player> others) {
+        return ROLLOUT_AGENT.chooseNavigatorTarget(navigator, others);
+    }
+
+    @Override
+    public Tile chooseNavigatorStep(Player navigator, Player target, List<Tile> options, int step) {
+        return ROLLOUT_AGENT.chooseNavigatorStep(navigator, target, options, step);
+    }
+
+    @Override
+    public Gift chooseMessengerGift(Player messenger, List<Player> others) {
+        return ROLLOUT_AGENT.chooseMessengerGift(messenger, others);
+    }
+
+    private synchronized long nextSeed() {
+        return seeds.nextLong();
+    }
+
+    /**
+     * Stop the worker threads.
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    /************ Search ************/
+
+    private int search(Game base, MctsNode root, TranspositionTable table, SplittableRandom random,
+                       AtomicInteger budget, long deadline) {
+        ActionBuffer actions = new ActionBuffer();
+        int done = 0;
+        while (budget.getAndDecrement() > 0 && System.nanoTime() < deadline) {
+            playout(base, root, table, random, actions);
+            done++;
+        }
+        return done;
+    }
+
+    /**
+     * One iteration: select down the tree on a fresh determinization, expand one node, roll out and back up
+     * the mean of the position reached.
+     */
+    private void playout(Game base, MctsNode root, TranspositionTable table, SplittableRandom random,
+                         ActionBuffer actions) {
+        Game game = determinize(base, random);
+        TurnManager turnManager = game.getTurnManager();
+        Player player = game.getCurrentPlayer();
+
+        MctsNode node = root;
+        node.addVirtualLoss(VIRTUAL_LOSS);
+        while (!game.isGameOver()) {
+            MctsNode[] children = node.children();
+            if (children == null) {
+                turnManager.generateActions(player, actions);
+                children = node.expand(actions);
+            }
+            if (children.length == 0) {
+                break;
+            }
+            MctsNode child = select(node, children);
+            boolean expanding = child.effectiveVisits() == 0;
+            child.addVirtualLoss(VIRTUAL_LOSS);
+            turnManager.applyAction(child.action);
+            node = child;
+            if (expanding || Action.type(child.action) == ActionType.END_TURN) {
+                break;
+            }
+        }
+
+        long key = game.getStateHash();
+        double value = pooled(table, key, rollout(game, random));
+        for (MctsNode n = node; n != null; n = n.parent) {
+            n.update(value, VIRTUAL_LOSS);
+        }
+    }
+
+    /**
+     * Add a rollout to the statistics of the position and return their mean. The entry's depth field
+     * holds the number of rollouts.
+     */
+    private static double pooled(TranspositionTable table, long key, double value) {
+        int entry = table.probe(key);
+        int count = entry < 0 ? 0 : table.depth(entry);
+        double mean = entry < 0 ? value : (table.value(entry) * count + value) / (count + 1);
+        table.store(key, TranspositionTable.NO_ACTION, (float) mean, Math.min(count + 1, Short.MAX_VALUE),
+                TranspositionTable.EXACT);
+        return mean;
+    }
+
+    /**
+     * UCT choice; children nobody has tried yet go first.
+     */
+    private static MctsNode select(MctsNode parent, MctsNode[] children) {
+        double logParent = Math.log(Math.max(1, parent.effectiveVisits()));
+        MctsNode best = children[0];
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (MctsNode child : children) {
+            int visits = child.effectiveVisits();
+            if (visits == 0) {
+                return child;
+            }
+            // Pending playouts count as losses, so concurrent threads spread over the siblings
+            double score = child.valueSum() / visits + EXPLORATION * Math.sqrt(logParent / visits);
+            if (score > bestScore) {
+                bestScore = score;
+                best = child;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Copy of the game with the unseen order of both draw piles shuffled, and a fast agent that answers
+     * its prompts. Cards a reshuffle put back on top stay on top: everyone knows which cards they are.
+     */
+    private static Game determinize(Game base, SplittableRandom random) {
+        Game game = base.copy(random.nextLong());
+        game.getTreasureDeck().shuffleUnseen();
+        game.getFloodDeck().shuffleUnseen();
+        game.setDefaultAgent(ROLLOUT_AGENT);
+        return game;
+    }
+
+    /**
+     * Finish the current turn and play up to {@link #getRolloutTurns()} more, then score the position.
+     */
+    private double rollout(Game game, SplittableRandom random) {
+        TurnManager turnManager = game.getTurnManager();
+        for (int turn = 0; turn <= rolloutTurns && !game.isGameOver(); turn++) {
+            if (turnManager.getCurrentPhase() == TurnManager.TurnPhase.ACTIONS) {
+                rolloutPolicy.playActions(game, game.getCurrentPlayer(), random);
+            }
+            // Draw treasure, draw flood, check win/lose and start the next turn
+            do {
+                turnManager.nextPhase();
+            } while (!game.isGameOver() && turnManager.getCurrentPhase() != TurnManager.TurnPhase.ACTIONS);
+        }
+        return evaluate(game);
+    }
+
+    /**
+     * Score of a position in [0, 1]: 1 for a win, 0 for a loss, otherwise a blend of captured treasures,
+     * progress towards the remaining ones, dry land and water level.
+     */
+    static double evaluate(Game game) {
+        if (game.getGameState() == GameState.WON) {
+            return 1;
+        }
+        if (game.isGameOver()) {
+            return 0;
+        }
+        int captured = 0;
+        int progress = 0;
+        for (TreasureType treasure : TreasureType.values()) {
+            if (treasure == TreasureType.NONE) {
+                continue;
+            }
+            int most = 0;
+            boolean collected = false;
+            for (Player player : game.getPlayers()) {
+                collected |= player.hasCollectedTreasure(treasure);
+                most = Math.max(most, player.getTreasureCardCount(treasure));
+            }
+            if (collected) {
+                captured++;
+            } else {
+                progress += Math.min(most, 4);
+            }
+        }
+        double land = (double) Long.bitCount(game.getBoard().getNavigableMask())
+                / Math.max(1, Long.bitCount(game.getBoard().getPresentMask()));
+        double water = game.getWaterLevel().getCurrentLevel() / 9.0;
+        return 0.05 + 0.15 * captured + 0.1 * progress / 16.0 + 0.15 * land + 0.1 * (1 - water);
+    }
+
+    /************ Helpers ************/
+
+    private long deadline(long start) {
+        return timeLimitMillis > 0 ? start + timeLimitMillis * 1_000_000L : Long.MAX_VALUE;
+    }
+
+    private void recordStatistics(int done, long start) {
+        lastPlayouts = done;
+        lastElapsedNanos = System.nanoTime() - start;
+    }
+
+    /**
+     * Playouts per second of the last decision.
+     */
+    public double getLastPlayoutsPerSecond() {
+        return lastElapsedNanos == 0 ? 0 : lastPlayouts * 1e9 / lastElapsedNanos;
+    }
+
+    private static int mostVisited(MctsNode root) {
+        MctsNode[] children = root.children();
+        if (children == null || children.length == 0) {
+            return Action.endTurn();
+        }
+        MctsNode best = children[0];
+        for (MctsNode child : children) {
+            if (child.visits() > best.visits()
+                    || (child.visits() == best.visits() && child.valueSum() > best.valueSum())) {
+                best = child;
+            }
+        }
+        return best.action;
+    }
+
+    /**
+     * Sum the root statistics of several trees by action and pick the most visited one.
+     */
+    private static int mostVisited(List<MctsNode> roots) {
+        Map<Integer, double[]> stats = new LinkedHashMap<>();
+        for (MctsNode root : roots) {
+            MctsNode[] children = root.children();
+            if (children == null) {
+                continue;
+            }
+            for (MctsNode child : children) {
+                double[] sum = stats.computeIfAbsent(child.action, a -> new double[2]);
+                sum[0] += child.visits();
+                sum[1] += child.valueSum();
+            }
+        }
+        int best = Action.endTurn();
+        double[] bestSum = null;
+        for (Map.Entry<Integer, double[]> entry : stats.entrySet()) {
+            double[] sum = entry.getValue();
+            if (bestSum == null || sum[0] > bestSum[0] || (sum[0] == bestSum[0] && sum[1] > bestSum[1])) {
+                best = entry.getKey();
+                bestSum = sum;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Hand indexes of the first card of every kind in the hand.
+     */
+    private static List<Integer> distinctCards(List<Card> hand) {
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < hand.size(); i++) {
+            boolean seen = false;
+            for (int index : indexes) {
+                seen |= sameKind(hand.get(index), hand.get(i));
+            }
+            if (!seen) {
+                indexes.add(i);
+            }
+        }
+        return indexes;
+    }
+
+    private static boolean sameKind(Card a, Card b) {
+        if (a instanceof TreasureCard && b instanceof TreasureCard) {
+            return ((TreasureCard) a).getTreasureType() == ((TreasureCard) b).getTreasureType();
+        }
+        return a.getClass() == b.getClass();
+    }
+}
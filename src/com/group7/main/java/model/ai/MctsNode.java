@@ -0,0 +1,75 @@
+package model.ai;
+
+import model.ActionBuffer;
+
+/**
+ * Search tree node of {@link MctsBot}: the packed action that leads to it and the playout statistics below it.
+ * Statistics are updated under the node's lock and read without it, so threads sharing a tree see
+ * slightly stale values at worst.
+ */
+final class MctsNode {
+    private static final MctsNode[] LEAF = new MctsNode[0];
+
+    final int action;
+    final MctsNode parent;
+
+    private volatile MctsNode[] children;
+    private volatile int visits;
+    private volatile double valueSum;
+    // Playouts currently passing through this node, counted as losses until they report back
+    private volatile int virtualLoss;
+
+    MctsNode(int action, MctsNode parent) {
+        this.action = action;
+        this.parent = parent;
+    }
+
+    /**
+     * Children, or null before the node is expanded.
+     */
+    MctsNode[] children() {
+        return children;
+    }
+
+    /**
+     * Create one child per legal action. If another thread expanded the node first, its children are kept.
+     */
+    synchronized MctsNode[] expand(ActionBuffer actions) {
+        if (children == null) {
+            MctsNode[] created = actions.isEmpty() ? LEAF : new MctsNode[actions.size()];
+            for (int i = 0; i < created.length; i++) {
+                created[i] = new MctsNode(actions.get(i), this);
+            }
+            children = created;
+        }
+        return children;
+    }
+
+    synchronized void addVirtualLoss(int amount) {
+        virtualLoss += amount;
+    }
+
+    /**
+     * Record a playout result and take back the virtual loss it added on the way down.
+     */
+    synchronized void update(double value, int amount) {
+        visits++;
+        valueSum += value;
+        virtualLoss -= amount;
+    }
+
+    int visits() {
+        return visits;
+    }
+
+    double valueSum() {
+        return valueSum;
+    }
+
+    /**
+     * Visits including pending playouts.
+     */
+    int effectiveVisits() {
+        return visits + virtualLoss;
+    }
+}
@@ -0,0 +1,208 @@
+package model.ai;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Fixed-size hash table of search results keyed by {@link model.Game#getStateHash()}, stored off-heap in a
+ * direct {@link ByteBuffer} so probing and storing never box or allocate.
+ * Entries live in buckets of two; which entry a store overwrites is decided by the {@link ReplacementPolicy}.
+ * Not thread-safe.
+ *
+ * <pre>
+ * Entry layout (24 bytes):
+ *   0  long   key
+ *   8  int    best action (packed {@link model.Action}, or -1)
+ *   12 float  value
+ *   16 short  depth
+ *   18 byte   bound (EXACT / LOWER / UPPER)
+ *   19 byte   generation, bumped by {@link #newSearch()}
+ *   20 int    flags (bit 0: occupied)
+ * </pre>
+ */
+public final class TranspositionTable {
+    public static final byte EXACT = 0;
+    public static final byte LOWER = 1;
+    public static final byte UPPER = 2;
+    public static final int NO_ACTION = -1;
+
+    private static final int ENTRY_BYTES = 24;
+    private static final int BUCKET_ENTRIES = 2;
+    private static final int KEY = 0;
+    private static final int ACTION = 8;
+    private static final int VALUE = 12;
+    private static final int DEPTH = 16;
+    private static final int BOUND = 18;
+    private static final int GENERATION = 19;
+    private static final int FLAGS = 20;
+    private static final int OCCUPIED = 1;
+    private static final int MAX_BUCKETS = 1 << 24; // Keeps the buffer under 2 GB
+
+    /**
+     * Which entry of a full bucket a new result replaces.
+     */
+    public enum ReplacementPolicy {
+        /** Always overwrite the first entry of the bucket. */
+        ALWAYS,
+        /** Overwrite the shallower entry, but entries from earlier searches go first. */
+        DEPTH_PREFERRED,
+        /** First entry keeps the deepest result, second entry always takes the newest. */
+        TWO_TIER
+    }
+
+    private final ByteBuffer table;
+    private final int bucketMask;
+    private final ReplacementPolicy policy;
+    private byte generation;
+
+    private long probes;
+    private long hits;
+    private long stores;
+
+    /**
+     * @param buckets Number of buckets, rounded up to a power of two
+     */
+    public TranspositionTable(int buckets, ReplacementPolicy policy) {
+        if (buckets < 1 || buckets > MAX_BUCKETS) {
+            throw new IllegalArgumentException("Bucket count must be between 1 and " + MAX_BUCKETS + ": " + buckets);
+        }
+        int size = buckets == 1 ? 1 : Integer.highestOneBit(buckets - 1) << 1;
+        this.table = ByteBuffer.allocateDirect(size * BUCKET_ENTRIES * ENTRY_BYTES).order(ByteOrder.nativeOrder());
+        this.bucketMask = size - 1;
+        this.policy = policy;
+    }
+
+    /**
+     * Create a table of about the given size in megabytes.
+     */
+    public static TranspositionTable ofMegabytes(int megabytes, ReplacementPolicy policy) {
+        long bytes = (long) megabytes << 20;
+        return new TranspositionTable((int) Math.max(1, Math.min(MAX_BUCKETS, bytes / (BUCKET_ENTRIES * ENTRY_BYTES))), policy);
+    }
+
+    /**
+     * Find the entry for a key.
+     * @return Offset of the entry, to be read with the accessor methods, or -1 if the key is absent
+     */
+    public int probe(long key) {
+        probes++;
+        int bucket = bucketOffset(key);
+        for (int i = 0; i < BUCKET_ENTRIES; i++) {
+            int entry = bucket + i * ENTRY_BYTES;
+            if (isOccupied(entry) && table.getLong(entry + KEY) == key) {
+                hits++;
+                return entry;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Store a result, updating the entry with the same key if there is one.
+     */
+    public void store(long key, int action, float value, int depth, byte bound) {
+        stores++;
+        int entry = selectEntry(key, depth);
+        table.putLong(entry + KEY, key);
+        table.putInt(entry + ACTION, action);
+        table.putFloat(entry + VALUE, value);
+        table.putShort(entry + DEPTH, (short) Math.min(depth, Short.MAX_VALUE));
+        table.put(entry + BOUND, bound);
+        table.put(entry + GENERATION, generation);
+        table.putInt(entry + FLAGS, OCCUPIED);
+    }
+
+    private int selectEntry(long key, int depth) {
+        int bucket = bucketOffset(key);
+        int second = bucket + ENTRY_BYTES;
+        // Same position, or a free slot
+        for (int i = 0; i < BUCKET_ENTRIES; i++) {
+            int entry = bucket + i * ENTRY_BYTES;
+            if (!isOccupied(entry) || table.getLong(entry + KEY) == key) {
+                return entry;
+            }
+        }
+        switch (policy) {
+            case DEPTH_PREFERRED:
+                boolean firstStale = table.get(bucket + GENERATION) != generation;
+                boolean secondStale = table.get(second + GENERATION) != generation;
+                if (firstStale != secondStale) {
+                    return firstStale ? bucket : second;
+                }
+                return depth(bucket) <= depth(second) ? bucket : second;
+            case TWO_TIER:
+                if (depth >= depth(bucket) || table.get(bucket + GENERATION) != generation) {
+                    // The displaced deep entry still gets the always-replace slot
+                    for (int i = 0; i < ENTRY_BYTES; i += 4) {
+                        table.putInt(second + i, table.getInt(bucket + i));
+                    }
+                    return bucket;
+                }
+                return second;
+            case ALWAYS:
+            default:
+                return bucket;
+        }
+    }
+
+    public int action(int entry) {
+        return table.getInt(entry + ACTION);
+    }
+
+    public float value(int entry) {
+        return table.getFloat(entry + VALUE);
+    }
+
+    public int depth(int entry) {
+        return table.getShort(entry + DEPTH);
+    }
+
+    public byte bound(int entry) {
+        return table.get(entry + BOUND);
+    }
+
+    /**
+     * Start a new search; entries from earlier searches become the first to be replaced.
+     */
+    public void newSearch() {
+        generation++;
+    }
+
+    /**
+     * Empty the table.
+     */
+    public void clear() {
+        for (int i = 0; i < table.capacity(); i += 8) {
+            table.putLong(i, 0L);
+        }
+        probes = 0;
+        hits = 0;
+        stores = 0;
+    }
+
+    public int capacity() {
+        return table.capacity() / ENTRY_BYTES;
+    }
+
+    public long getProbes() {
+        return probes;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getStores() {
+        return stores;
+    }
+
+    private boolean isOccupied(int entry) {
+        return (table.getInt(entry + FLAGS) & OCCUPIED) != 0;
+    }
+
+    private int bucketOffset(long key) {
+        // Mix the high bits in, so keys differing only there spread over the buckets
+        int index = (int) (key ^ (key >>> 32)) & bucketMask;
+        return index * BUCKET_ENTRIES * ENTRY_BYTES;
+    }
+}
@@ -1,11 +1,10 @@
 package model.card;
 import model.Player;
+import model.PlayerAgent;
 import model.Tile;
 import model.Game;
-import view.dialog.HelicopterLiftDialog;
 
-import javax.swing.*;
-import java.util.List;
+import java.util.ArrayList;
 
 public class HelicopterLiftCard extends SpecialCard {
     public HelicopterLiftCard() {
@@ -13,26 +12,42 @@ public class HelicopterLiftCard extends SpecialCard {
     }
 
     @Override
-    public void useCard(Player player) {
-        Game game = Game.getInstance();
+    public boolean useCard(Player player) {
+        Game game = player.getGame();
+        PlayerAgent agent = game.getAgent(player);
+        if (agent == null) {
+            return false;
+        }
 
-        // Open the dialog box and let the player select the target board and the player to move
-        SwingUtilities.invokeLater(() -> {
-            JFrame frame = (JFrame) SwingUtilities.getWindowAncestor(game.getMainFrame());
-            HelicopterLiftDialog dialog = new HelicopterLiftDialog(frame, player, new HelicopterLiftDialog.ActionListener() {
-                @Override
-                public void onPlayersSelected(List<Player> selectedPlayers, Tile destinationTile) {
-                    // Move all the selected players to the target board
-                    for (Player p : selectedPlayers) {
-                        p.moveToTile(destinationTile);
-                    }
-                }
-                @Override
-                public void onActionCancelled() {
-                    // Do nothing when canceling the operation
-                }
-            });
-            dialog.setVisible(true);
-        });
+        // Let the player's agent select the players to move and the target board
+        PlayerAgent.Lift lift = agent.chooseHelicopterLift(player, game.getBoard().getAllNavigableTiles());
+        if (lift == null || lift.getDestination() == null || lift.getDestination().isSunk()
+                || lift.getPassengers().isEmpty()) {
+            return false;
+        }
+        // Move all the selected players to the target board
+        for (Player p : lift.getPassengers()) {
+            p.flyTo(lift.getDestination());
+        }
+        game.notifyBoardChanged();
+        return true;
     }
-}
\ No newline at end of file
+
+    /**
+     * Lift the player and everyone on the same tile to the destination, without asking the agent
+     * @param player A player who uses the card
+     * @param destinationTile Target section
+     * @return Whether was used successfully
+     */
+    @Override
+    public boolean useOnTile(Player player, Tile destinationTile) {
+        Tile from = player.getCurrentTile();
+        if (from == null || destinationTile == null || destinationTile == from || destinationTile.isSunk()) {
+            return false;
+        }
+        for (Player p : new ArrayList<>(from.getPlayersOnTile())) {
+            p.flyTo(destinationTile);
+        }
+        return true;
+    }
+}
@@ -1,13 +1,10 @@
 package model.card;
 
 import model.Player;
+import model.PlayerAgent;
 import model.Tile;
 import model.Game;
 
-import view.dialog.RoleActionDialog;
-
-import javax.swing.*;
-
 public class SandbagCard extends SpecialCard {
     public SandbagCard() {
         super("Sandbag", "Remove the water on any one of the plates");
@@ -15,52 +12,36 @@ public class SandbagCard extends SpecialCard {
     }
 
     @Override
-    public void useCard(Player player) {
+    public boolean useCard(Player player) {
         // The sandbag card can be used at any time to drain the water from any plate
         // Note: According to the rules, sandbag cards cannot be used after seeing flood cards
-        Game game = Game.getInstance();
-
-        // Open the dialog box and let the player select the section to drain
-        SwingUtilities.invokeLater(() -> {
-            JFrame frame = (JFrame) SwingUtilities.getWindowAncestor(game.getMainFrame());
-            RoleActionDialog dialog = new RoleActionDialog(frame, player, new RoleActionDialog.ActionListener() {
-                @Override
-                public void onTileSelected(Tile tile) {
-                    if (tile != null && tile.isFlooded()) {
-                        tile.shoreUp(); // Use the correct method name
-                        game.getMainFrame().updateBoard(game.getBoard());
-                    }
-                }
-
-                @Override
-                public void onPlayerSelected(Player targetPlayer) {
-                    // There is no need to select players
-                }
-
-                @Override
-                public void onCardSelected(TreasureCard card) {
-                    // There is no need to select cards
-                }
+        Game game = player.getGame();
+        PlayerAgent agent = game.getAgent(player);
+        if (agent == null) {
+            return false;
+        }
 
-                @Override
-                public void onActionCancelled() {
-                    // Do nothing when canceling the operation
-                }
-            });
-            dialog.setVisible(true);
-        });
+        // Let the player's agent select the section to drain
+        Tile tile = agent.chooseSandbagTile(player, game.getBoard().getFloodedTiles());
+        if (useOnTile(player, tile)) {
+            game.notifyBoardChanged();
+            return true;
+        }
+        return false;
     }
 
     /**
      * Use sandbag cards to drain the water from the designated sections
+     * @param player A player who uses the card
      * @param tile Target section
      * @return Whether was used successfully
      */
-    public boolean useOnTile(Tile tile) {
+    @Override
+    public boolean useOnTile(Player player, Tile tile) {
         if (tile != null && tile.isFlooded()) {
-            Game.getInstance().getBoard().dryTile(tile);
+            player.getGame().getBoard().dryTile(tile);
             return true;
         }
         return false;
     }
-}
\ No newline at end of file
+}
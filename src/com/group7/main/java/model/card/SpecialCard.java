@@ -17,7 +17,7 @@ public abstract class SpecialCard extends HandCard {
      * @param player A player who uses cards
      */
     public boolean canBeUsedNow(Player player) {
-        Game game = Game.getInstance();
+        Game game = player.getGame();
 
         // If the game has ended, the cards cannot be used
         if (game.isGameOver()) {
@@ -43,23 +43,47 @@ public abstract class SpecialCard extends HandCard {
      * @return Whether it was used successfully
      */
     public boolean use(Player player) {
-        if (!canBeUsedNow(player)) {
+        if (!canBeUsedNow(player) || !useCard(player)) {
             return false;
         }
-
-        // Execute the card effect
-        useCard(player);
-
-        // Put the cards into the discard pile
-        Game.getInstance().getTreasureDeck().discard(this);
-
+        discardAfterUse(player);
         return true;
     }
 
+    /**
+     * Use the card on a tile chosen beforehand, without asking the player's agent
+     * @return Whether it was used successfully
+     */
     public boolean use(Player player, Tile targetTile) {
-        return use(player);
+        if (!canBeUsedNow(player) || !useOnTile(player, targetTile)) {
+            return false;
+        }
+        discardAfterUse(player);
+        return true;
     }
 
-    public abstract void useCard(Player player);
-}
+    /**
+     * Card effect on the given tile. Cards without a tile target refuse.
+     */
+    public boolean useOnTile(Player player, Tile tile) {
+        return false;
+    }
+
+    /**
+     * Card effect, asking the player's agent for any choice it needs
+     * @return Whether the effect took place (false if the agent cancelled)
+     */
+    public abstract boolean useCard(Player player);
 
+    /**
+     * Move the used card from the hand to the treasure discard pile
+     */
+    private void discardAfterUse(Player player) {
+        Game game = player.getGame();
+        if (player.getHand().contains(this)) {
+            game.discardFromHand(player, this);
+        } else {
+            game.getTreasureDeck().discard(this);
+        }
+    }
+}
@@ -12,8 +12,8 @@ public class WaterRiseCard extends SpecialCard {
     }
 
     @Override
-    public void useCard(Player player) {
-        Game game = Game.getInstance();
+    public boolean useCard(Player player) {
+        Game game = player.getGame();
 
         // The water level rises
         game.getWaterLevel().tryRise();
@@ -25,6 +25,7 @@ public class WaterRiseCard extends SpecialCard {
         for (GameEventListener listener : game.getEventListeners()) {
             listener.onFloodDeckReshuffled();
         }
+        return true;
     }
 
     @Override
@@ -9,7 +9,8 @@ public enum ActionType {
     GIVE_CARD("Give cards"),
     CAPTURE_TREASURE("Obtain the treasure"),
     USE_SPECIAL_ABILITY("Use special abilities"),
-    USE_SPECIAL_CARD("Use special cards");
+    USE_SPECIAL_CARD("Use special cards"),
+    END_TURN("End turn");
 
     private final String displayName;
 
@@ -2,11 +2,10 @@ package model.enums;
 
 import model.Tile;  
 import model.Player;
+import model.PlayerAgent;
 import model.Game;
 import model.RoleAbility;
-import model.card.TreasureCard;
-import view.dialog.RoleActionDialog;
-import javax.swing.*;
+import java.util.ArrayList;
 import java.util.List;
 
 public enum Role implements RoleAbility {
@@ -16,7 +15,7 @@ public enum Role implements RoleAbility {
         public void useSpecialAbility(Player player, Tile destinationTile) {
             // Pilot's special ability: Can fly to any plate (limited to once per round)
             if (destinationTile != null && destinationTile.isNavigable()) {
-                player.moveToTile(destinationTile);
+                player.flyTo(destinationTile);
             }
         }  
     },
@@ -24,32 +23,20 @@ public enum Role implements RoleAbility {
     ENGINEER("Engineer"){
         @Override  
         public void useSpecialAbility(Player player, Tile destinationTile) {
-            if (destinationTile != null && destinationTile.isFlooded()) {
-                Game game = Game.getInstance();
+            // Engineer's special ability: Can shore up two tiles within shore-up reach for one action
+            Game game = player.getGame();
+            if (destinationTile != null && game.getBoard().getShoreUpTilesForPlayer(player).contains(destinationTile)) {
                 game.getBoard().dryTile(destinationTile);
 
-                // Open the dialog box and select the second section you want to drain
-                SwingUtilities.invokeLater(() -> {
-                    JFrame frame = (JFrame) SwingUtilities.getWindowAncestor(game.getMainFrame());
-                    RoleActionDialog dialog = new RoleActionDialog(frame, player, new RoleActionDialog.ActionListener() {
-                        @Override
-                        public void onTileSelected(Tile secondTile) {
-                            if (secondTile != null && secondTile.isFlooded()) {
-                                game.getBoard().dryTile(secondTile);
-                            }
-                        }
-
-                        @Override
-                        public void onPlayerSelected(Player targetPlayer) {}
-
-                        @Override
-                        public void onCardSelected(TreasureCard card) {}
-
-                        @Override
-                        public void onActionCancelled() {}
-                    });
-                    dialog.setVisible(true);
-                });
+                // Ask the player's agent for the second section to drain, among the ones still in reach
+                PlayerAgent agent = game.getAgent(player);
+                List<Tile> reachable = game.getBoard().getShoreUpTilesForPlayer(player);
+                if (agent != null && !reachable.isEmpty()) {
+                    Tile secondTile = agent.chooseSecondShoreUp(player, reachable);
+                    if (secondTile != null && reachable.contains(secondTile)) {
+                        game.getBoard().dryTile(secondTile);
+                    }
+                }
             }
         }  
     },
@@ -58,48 +45,24 @@ public enum Role implements RoleAbility {
         @Override  
         public void useSpecialAbility(Player player, Tile destinationTile) {
             // Navigator's special ability: Can move other players up to two Spaces
-            // Note: Here, UI interaction is required to select the target player and move the position
-            Game game = Game.getInstance();
-
-            SwingUtilities.invokeLater(() -> {
-                JFrame frame = (JFrame) SwingUtilities.getWindowAncestor(game.getMainFrame());
-                RoleActionDialog dialog = new RoleActionDialog(frame, player, new RoleActionDialog.ActionListener() {
-                    @Override
-                    public void onTileSelected(Tile tile) {}
-
-                    @Override
-                    public void onPlayerSelected(Player targetPlayer) {
-                        if (targetPlayer != null) {
-                            // 连续两次弹窗选择目标格子
-                            for (int i = 0; i < 2; i++) {
-                                List<Tile> movable = game.getBoard().getMovableTilesForPlayer(targetPlayer);
-                                if (movable.isEmpty()) break;
-                                Tile dest = (Tile) JOptionPane.showInputDialog(
-                                        frame,
-                                        "Navigator: Select tile to move Player " + targetPlayer.getPlayerId() + " (step " + (i+1) + "):",
-                                        "Navigator Move",
-                                        JOptionPane.PLAIN_MESSAGE,
-                                        null,
-                                        movable.toArray(),
-                                        movable.get(0)
-                                );
-                                if (dest != null && targetPlayer.canMoveTo(dest)) {
-                                    targetPlayer.moveToTile(dest);
-                                } else {
-                                    break;
-                                }
-                            }
-                        }
-                    }
-
-                    @Override
-                    public void onCardSelected(TreasureCard card) {}
-
-                    @Override
-                    public void onActionCancelled() {}
-                });
-                dialog.setVisible(true);
-            });
+            // The player's agent selects the target player and up to two tiles to move it to
+            Game game = player.getGame();
+            PlayerAgent agent = game.getAgent(player);
+            if (agent == null) {
+                return;
+            }
+            Player targetPlayer = agent.chooseNavigatorTarget(player, otherPlayers(player));
+            if (targetPlayer == null || targetPlayer == player) {
+                return;
+            }
+            for (int i = 0; i < 2; i++) {
+                List<Tile> movable = game.getBoard().getMovableTilesForPlayer(targetPlayer);
+                if (movable.isEmpty()) break;
+                Tile dest = agent.chooseNavigatorStep(player, targetPlayer, movable, i);
+                if (dest == null || !movable.contains(dest)) break;
+                targetPlayer.flyTo(dest);
+            }
+            game.notifyBoardChanged();
         }
     },
 
@@ -108,7 +71,7 @@ public enum Role implements RoleAbility {
         public void useSpecialAbility(Player player, Tile destinationTile) {
             // Diver's special ability: Can pass through any number of adjacent submerged or sunken plates
             if (destinationTile != null) {
-                Game game = Game.getInstance();
+                Game game = player.getGame();
                 List<Tile> reachableTiles = game.getBoard().getReachableTilesForDiver(player.getCurrentTile());
 
                 if (reachableTiles.contains(destinationTile)) {
@@ -122,33 +85,16 @@ public enum Role implements RoleAbility {
         @Override  
         public void useSpecialAbility(Player player, Tile destinationTile) {
             // Messenger's special ability: Can give treasure cards to other players at any position
-            Game game = Game.getInstance();
-            // Open the dialog box and select the player and the card
-            SwingUtilities.invokeLater(() -> {
-                JFrame frame = (JFrame) SwingUtilities.getWindowAncestor(game.getMainFrame());
-                RoleActionDialog dialog = new RoleActionDialog(frame, player, new RoleActionDialog.ActionListener() {
-                    private Player selectedPlayer;
-
-                    @Override
-                    public void onTileSelected(Tile tile) {}
-
-                    @Override
-                    public void onPlayerSelected(Player targetPlayer) {
-                        this.selectedPlayer = targetPlayer;
-                    }
-
-                    @Override
-                    public void onCardSelected(TreasureCard card) {
-                        if (selectedPlayer != null && card != null) {
-                            player.giveCardToPlayer(selectedPlayer, card);
-                        }
-                    }
-
-                    @Override
-                    public void onActionCancelled() {}
-                });
-                dialog.setVisible(true);
-            });
+            Game game = player.getGame();
+            // The player's agent selects the player and the card
+            PlayerAgent agent = game.getAgent(player);
+            if (agent == null) {
+                return;
+            }
+            PlayerAgent.Gift gift = agent.chooseMessengerGift(player, otherPlayers(player));
+            if (gift != null && gift.getReceiver() != null && gift.getCard() != null) {
+                player.giveCardToPlayer(gift.getReceiver(), gift.getCard());
+            }
         }
     },
 
@@ -157,7 +103,7 @@ public enum Role implements RoleAbility {
         public void useSpecialAbility(Player player, Tile destinationTile) {
             // Explorer's special ability: Can move diagonally and drain water diagonally
             if (destinationTile != null) {
-                Game game = Game.getInstance();
+                Game game = player.getGame();
                 List<Tile> reachableTiles = game.getBoard().getDiagonalAndOrthogonalTiles(player.getCurrentTile());
 
                 if (reachableTiles.contains(destinationTile)) {
@@ -183,5 +129,11 @@ public enum Role implements RoleAbility {
         return displayName;
     }
 
+    private static List<Player> otherPlayers(Player player) {
+        List<Player> others = new ArrayList<>(player.getGame().getPlayers());
+        others.remove(player);
+        return others;
+    }
+
 }  
 
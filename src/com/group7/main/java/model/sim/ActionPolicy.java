@@ -0,0 +1,20 @@
+package model.sim;
+
+import model.Game;
+import model.Player;
+
+import java.util.SplittableRandom;
+
+/**
+ * Decides what a player does during the action phase of a headless game.
+ * Implementations are shared between simulation threads and must not keep per-game state.
+ */
+@FunctionalInterface
+public interface ActionPolicy {
+    /**
+     * Spend (some of) the player's remaining actions.
+     * The simulator moves on to the draw phases when this returns.
+     * @param random Per-game stream for any random choice, so seeded runs are reproducible
+     */
+    void playActions(Game game, Player player, SplittableRandom random);
+}
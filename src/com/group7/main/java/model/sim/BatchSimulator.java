@@ -0,0 +1,99 @@
+package model.sim;
+
+import model.Game;
+import model.Player;
+import model.PlayerAgent;
+import model.enums.GameState;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Plays complete headless games in parallel and reports the win rate,
+ * the loss-reason histogram and the engine throughput.
+ * Game {@code i} of a batch is seeded from the batch seed and {@code i} only,
+ * so a batch gives the same report regardless of thread count or scheduling.
+ * <p>
+ * Usage: {@code java model.sim.BatchSimulator [games] [players] [threads] [seed]}
+ */
+public class BatchSimulator {
+    public static final int DEFAULT_MAX_TURNS = 500;
+    public static final String TURN_LIMIT_REASON = "Turn limit reached";
+
+    private final int numPlayers;
+    private final ActionPolicy policy;
+    private final int parallelism;
+    private final int maxTurns;
+    private final long seed;
+    private final PlayerAgent agent = new HeuristicAgent();
+
+    public BatchSimulator(int numPlayers, ActionPolicy policy, int parallelism, long seed) {
+        this(numPlayers, policy, parallelism, seed, DEFAULT_MAX_TURNS);
+    }
+
+    public BatchSimulator(int numPlayers, ActionPolicy policy, int parallelism, long seed, int maxTurns) {
+        if (numPlayers < 2 || numPlayers > 4) {
+            throw new IllegalArgumentException("Invalid number of players. Must be between 2 and 4.");
+        }
+        this.numPlayers = numPlayers;
+        this.policy = policy;
+        this.parallelism = parallelism;
+        this.maxTurns = maxTurns;
+        this.seed = seed;
+    }
+
+    /**
+     * Play the given number of games on a fork-join pool and aggregate the results.
+     */
+    public SimulationReport run(int games) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            long start = System.nanoTime();
+            SimulationReport report = pool.submit(() -> IntStream.range(0, games)
+                    .parallel()
+                    .collect(SimulationReport::new, (partial, i) -> playGame(i, partial), SimulationReport::merge))
+                    .join();
+            report.setElapsedNanos(System.nanoTime() - start);
+            return report;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Play one game from setup to win/loss (or the turn limit) and record it.
+     */
+    private void playGame(int index, SimulationReport report) {
+        SplittableRandom gameRandom = new SplittableRandom(seed + index * 0x9E3779B97F4A7C15L);
+        Game game = new Game(gameRandom.nextLong());
+        SplittableRandom policyRandom = gameRandom.split();
+        OutcomeRecorder recorder = new OutcomeRecorder(game);
+        game.addGameEventListener(recorder);
+        game.setDefaultAgent(agent);
+        game.startGame(numPlayers);
+
+        int turns = 0;
+        while (!game.isGameOver() && turns < maxTurns) {
+            Player player = game.getCurrentPlayer();
+            policy.playActions(game, player, policyRandom);
+            // Draw treasure, draw flood, check win/lose and start the next turn
+            game.getTurnManager().nextPhase();
+            turns++;
+        }
+
+        boolean won = game.getGameState() == GameState.WON;
+        String reason = won ? null : (recorder.getReason() != null ? recorder.getReason() : TURN_LIMIT_REASON);
+        report.record(won, reason, turns);
+    }
+
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int players = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+
+        BatchSimulator simulator = new BatchSimulator(players, new RandomActionPolicy(), threads, seed);
+        System.out.print(simulator.run(games));
+    }
+}
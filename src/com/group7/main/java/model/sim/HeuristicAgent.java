@@ -0,0 +1,118 @@
+package model.sim;
+
+import model.Player;
+import model.PlayerAgent;
+import model.Tile;
+import model.card.Card;
+import model.card.HandCard;
+import model.card.TreasureCard;
+import model.enums.TileType;
+import model.enums.TreasureType;
+
+import java.util.List;
+
+/**
+ * Fast rule-of-thumb answers for headless games: discard the treasure type held the fewest of,
+ * save Fool's Landing and treasure tiles first, swim to dry land, and keep helicopters and role moves for later.
+ * Holds no state, so one instance can serve every game and thread.
+ */
+public class HeuristicAgent implements PlayerAgent {
+
+    @Override
+    public HandCard chooseDiscard(Player player) {
+        // Keep special cards; drop the treasure type the player holds the fewest of
+        TreasureCard card = leastUsefulTreasureCard(player);
+        if (card != null) {
+            return card;
+        }
+        List<Card> hand = player.getHand();
+        return hand.isEmpty() ? null : (HandCard) hand.get(hand.size() - 1);
+    }
+
+    @Override
+    public Lift chooseHelicopterLift(Player player, List<Tile> destinations) {
+        return null;
+    }
+
+    @Override
+    public Tile chooseSandbagTile(Player player, List<Tile> floodedTiles) {
+        return mostValuable(player, floodedTiles);
+    }
+
+    @Override
+    public Tile chooseSecondShoreUp(Player engineer, List<Tile> floodedTiles) {
+        return mostValuable(engineer, floodedTiles);
+    }
+
+    @Override
+    public Tile chooseEscapeTile(Player player, List<Tile> escapeTiles) {
+        // Dry land first, so the next flood card cannot strand the player again
+        Tile dry = mostValuable(player, escapeTiles, true);
+        return dry != null ? dry : mostValuable(player, escapeTiles, false);
+    }
+
+    @Override
+    public Player chooseNavigatorTarget(Player navigator, List<Player> others) {
+        return null;
+    }
+
+    @Override
+    public Tile chooseNavigatorStep(Player navigator, Player target, List<Tile> options, int step) {
+        return null;
+    }
+
+    @Override
+    public Gift chooseMessengerGift(Player messenger, List<Player> others) {
+        return null;
+    }
+
+    /**
+     * Fool's Landing, then a tile of a treasure nobody holds yet, then the first tile.
+     */
+    private static Tile mostValuable(Player player, List<Tile> tiles) {
+        return mostValuable(player, tiles, false);
+    }
+
+    /**
+     * Same as {@link #mostValuable(Player, List)}, skipping flooded tiles if dryOnly; null if none is left.
+     */
+    private static Tile mostValuable(Player player, List<Tile> tiles, boolean dryOnly) {
+        Tile best = null;
+        for (Tile tile : tiles) {
+            if (dryOnly && tile.isFlooded()) {
+                continue;
+            }
+            if (tile.getType() == TileType.FOOLS_LANDING) {
+                return tile;
+            }
+            if (best == null || (tile.getTreasure() != TreasureType.NONE && !collected(player, tile.getTreasure())
+                    && best.getTreasure() == TreasureType.NONE)) {
+                best = tile;
+            }
+        }
+        return best;
+    }
+
+    private static boolean collected(Player player, TreasureType treasure) {
+        for (Player other : player.getGame().getPlayers()) {
+            if (other.hasCollectedTreasure(treasure)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static TreasureCard leastUsefulTreasureCard(Player player) {
+        TreasureCard best = null;
+        for (Card card : player.getHand()) {
+            if (card instanceof TreasureCard) {
+                TreasureCard treasureCard = (TreasureCard) card;
+                if (best == null || player.getTreasureCardCount(treasureCard.getTreasureType())
+                        < player.getTreasureCardCount(best.getTreasureType())) {
+                    best = treasureCard;
+                }
+            }
+        }
+        return best;
+    }
+}
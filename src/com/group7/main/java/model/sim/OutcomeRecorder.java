@@ -0,0 +1,39 @@
+package model.sim;
+
+import lombok.Getter;
+import model.Game;
+import model.GameEventListener;
+import model.Player;
+import model.card.Card;
+import model.enums.GameState;
+
+/**
+ * Captures the first failure reason of a headless game.
+ */
+public class OutcomeRecorder implements GameEventListener {
+    private final Game game;
+    @Getter
+    private String reason;
+
+    public OutcomeRecorder(Game game) {
+        this.game = game;
+    }
+
+    @Override
+    public void onGameFailure(String reason) {
+        if (this.reason == null) {
+            this.reason = reason;
+        }
+    }
+
+    @Override
+    public void onGameOver(String message) {
+        if (game.getGameState() != GameState.WON && reason == null) {
+            reason = message;
+        }
+    }
+
+    @Override
+    public void onCardDiscarded(Player player, Card card) {
+    }
+}
@@ -0,0 +1,99 @@
+package model.sim;
+
+import model.Action;
+import model.ActionBuffer;
+import model.Game;
+import model.Player;
+import model.TurnManager;
+import model.card.SandbagCard;
+import model.enums.ActionType;
+
+import java.util.SplittableRandom;
+
+/**
+ * Baseline policy: capture a treasure when possible, otherwise shore up a flooded tile in reach,
+ * otherwise wander to a random reachable tile. Once out of actions, Sandbags go on random flooded tiles;
+ * Helicopter Lifts are kept for the escape.
+ */
+public class RandomActionPolicy implements ActionPolicy {
+    // Policies are shared between simulation threads, so each thread reuses its own buffer
+    private static final ThreadLocal<ActionBuffer> BUFFERS = ThreadLocal.withInitial(ActionBuffer::new);
+
+    @Override
+    public void playActions(Game game, Player player, SplittableRandom random) {
+        TurnManager turnManager = game.getTurnManager();
+        ActionBuffer actions = BUFFERS.get();
+        while (player.getRemainingActions() > 0) {
+            turnManager.generateActions(player, actions);
+            if (!turnManager.applyAction(choose(actions, random))) {
+                return;
+            }
+        }
+
+        // Special cards need no action, so they can still be played before the draws
+        while (!game.isGameOver()) {
+            turnManager.generateActions(player, actions);
+            int sandbag = chooseSandbag(player, actions, random);
+            if (sandbag < 0 || !turnManager.applyAction(sandbag)) {
+                return;
+            }
+        }
+    }
+
+    private static int chooseSandbag(Player player, ActionBuffer actions, SplittableRandom random) {
+        int targets = 0;
+        for (int i = 0; i < actions.size(); i++) {
+            if (isSandbag(player, actions.get(i))) {
+                targets++;
+            }
+        }
+        if (targets == 0) {
+            return -1;
+        }
+        int pick = random.nextInt(targets);
+        for (int i = 0; i < actions.size(); i++) {
+            if (isSandbag(player, actions.get(i)) && pick-- == 0) {
+                return actions.get(i);
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isSandbag(Player player, int action) {
+        return Action.type(action) == ActionType.USE_SPECIAL_CARD
+                && player.getHand().get(Action.handIndex(action)) instanceof SandbagCard;
+    }
+
+    private static int choose(ActionBuffer actions, SplittableRandom random) {
+        int shoreUp = -1;
+        int moves = 0;
+        for (int i = 0; i < actions.size(); i++) {
+            ActionType type = Action.type(actions.get(i));
+            if (type == ActionType.CAPTURE_TREASURE) {
+                // 1. Capture the treasure on the current tile
+                return actions.get(i);
+            } else if (type == ActionType.SHORE_UP && shoreUp < 0) {
+                shoreUp = actions.get(i);
+            } else if (type == ActionType.MOVE) {
+                moves++;
+            }
+        }
+
+        // 2. Shore up a flooded tile in reach
+        if (shoreUp >= 0) {
+            return shoreUp;
+        }
+
+        // 3. Move to a random reachable tile
+        if (moves == 0) {
+            return Action.endTurn();
+        }
+        int pick = random.nextInt(moves);
+        for (int i = 0; i < actions.size(); i++) {
+            if (Action.type(actions.get(i)) == ActionType.MOVE && pick-- == 0) {
+                return actions.get(i);
+            }
+        }
+        return Action.endTurn();
+    }
+}
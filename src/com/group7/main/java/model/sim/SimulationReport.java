@@ -0,0 +1,75 @@
+package model.sim;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aggregated outcome of a batch of simulated games.
+ */
+@Getter
+public class SimulationReport {
+    private long games;
+    private long wins;
+    private long totalTurns;
+    private long elapsedNanos;
+    private final Map<String, Long> lossReasons = new TreeMap<>();
+
+    /**
+     * Add the outcome of one game.
+     * @param lossReason Reason passed to the failure event, or null if the game was won
+     */
+    void record(boolean won, String lossReason, int turns) {
+        games++;
+        totalTurns += turns;
+        if (won) {
+            wins++;
+        } else {
+            lossReasons.merge(lossReason, 1L, Long::sum);
+        }
+    }
+
+    /**
+     * Merge the partial result of another worker into this one.
+     */
+    void merge(SimulationReport other) {
+        games += other.games;
+        wins += other.wins;
+        totalTurns += other.totalTurns;
+        other.lossReasons.forEach((reason, count) -> lossReasons.merge(reason, count, Long::sum));
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public Map<String, Long> getLossReasons() {
+        return Collections.unmodifiableMap(lossReasons);
+    }
+
+    public double getWinRate() {
+        return games == 0 ? 0 : (double) wins / games;
+    }
+
+    public double getAverageTurns() {
+        return games == 0 ? 0 : (double) totalTurns / games;
+    }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Games: %d, wins: %d (%.2f%%), avg turns: %.1f, %.0f games/s%n",
+                games, wins, getWinRate() * 100, getAverageTurns(), getGamesPerSecond()));
+        sb.append("Loss reasons:").append(System.lineSeparator());
+        lossReasons.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .forEach(e -> sb.append(String.format("  %8d  %s%n", e.getValue(), e.getKey())));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,133 @@
+package util;
+
+import javax.imageio.ImageIO;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Images by name relative to the images folder (e.g. "Tiles/Bronze Gate@2x.png"), each decoded once on a
+ * background executor. An image is looked up on the classpath first, with the resources folder or the
+ * source folder as root, and then as a file under the repository root, so the game runs from a jar and
+ * from the source tree. Missing or unreadable images complete with null.
+ */
+public final class AssetManager {
+    private static final String[] CLASSPATH_ROOTS = {"/images/", "/com/group7/resources/images/"};
+    private static final String FILE_ROOT = "src/com/group7/resources/images/";
+    private static final AssetManager SHARED = new AssetManager(Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(), runnable -> {
+                Thread thread = new Thread(runnable, "asset-loader");
+                thread.setDaemon(true);
+                return thread;
+            }));
+
+    private final Executor executor;
+    private final Map<String, Asset> assets = new ConcurrentHashMap<>();
+
+    public AssetManager(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Assets shared by the views, decoded on daemon threads.
+     */
+    public static AssetManager getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Start decoding the image if it is not already, and return its future.
+     */
+    public CompletableFuture<BufferedImage> load(String name) {
+        return asset(name).image;
+    }
+
+    /**
+     * The decoded image, or null if there is none. If the background decode has not started yet the
+     * image is decoded on the calling thread instead of waiting behind the queue.
+     */
+    public BufferedImage get(String name) {
+        Asset asset = asset(name);
+        asset.decode();
+        return asset.image.join();
+    }
+
+    /**
+     * Start decoding all the given images.
+     */
+    public void preload(Iterable<String> names) {
+        for (String name : names) {
+            load(name);
+        }
+    }
+
+    private Asset asset(String name) {
+        return assets.computeIfAbsent(name, key -> {
+            Asset created = new Asset(key);
+            executor.execute(created::decode);
+            return created;
+        });
+    }
+
+    /**
+     * Whether the image can be found, without decoding it.
+     */
+    public static boolean exists(String name) {
+        return locate(name) != null;
+    }
+
+    private static URL locate(String name) {
+        for (String root : CLASSPATH_ROOTS) {
+            URL url = AssetManager.class.getResource(root + name);
+            if (url != null) {
+                return url;
+            }
+        }
+        File file = new File(FILE_ROOT + name);
+        try {
+            return file.isFile() ? file.toURI().toURL() : null;
+        } catch (MalformedURLException e) {
+            return null;
+        }
+    }
+
+    /**
+     * One image; decoded by whichever thread gets to it first.
+     */
+    private static class Asset {
+        private final String name;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final CompletableFuture<BufferedImage> image = new CompletableFuture<>();
+
+        Asset(String name) {
+            this.name = name;
+        }
+
+        void decode() {
+            if (!claimed.compareAndSet(false, true)) {
+                return;
+            }
+            URL url = locate(name);
+            BufferedImage decoded = null;
+            if (url != null) {
+                // In-memory stream: ImageIO would otherwise buffer jar and URL streams through a temp file
+                try (InputStream in = url.openStream()) {
+                    decoded = ImageIO.read(new MemoryCacheImageInputStream(in));
+                } catch (IOException | RuntimeException e) {
+                    // Missing artwork only hides the picture
+                }
+            }
+            image.complete(decoded);
+        }
+    }
+}
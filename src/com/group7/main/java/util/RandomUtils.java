@@ -0,0 +1,24 @@
+package util;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Shuffling helpers driven by a {@link SplittableRandom}, so each game session
+ * can use its own reproducible random streams instead of the shared global RNG.
+ */
+public final class RandomUtils {
+
+    private RandomUtils() {
+    }
+
+    /**
+     * Fisher-Yates shuffle of a list in place.
+     */
+    public static <T> void shuffle(List<T> list, SplittableRandom random) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            list.set(i, list.set(j, list.get(i)));
+        }
+    }
+}
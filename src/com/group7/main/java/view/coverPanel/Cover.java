@@ -1,19 +1,19 @@
 package view.coverPanel;
 
+import util.AssetManager;
 import view.gamePanel.RulesDialog;
 
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.IOException;
 
 public class Cover extends JFrame {
     private static final String TITLE = "Forbidden Island";
     private static final int WINDOW_WIDTH = 800;
     private static final int WINDOW_HEIGHT = 600;
-    private static final String BACKGROUND_IMAGE_PATH = "src/com/group7/resources/images/TitleScreen.png";
+    private static final String BACKGROUND_IMAGE_PATH = "TitleScreen.png";
     
     private BackgroundPanel backgroundPanel;
     private GameButton startButton;
@@ -49,9 +49,25 @@ public class Cover extends JFrame {
         backgroundPanel.add(rulesButton);
     }
     
-    public static void createAndShowCover(Runnable onGameStart) {
+    /**
+     * Start decoding the cover background in the background.
+     */
+    public static void preload() {
+        AssetManager.getShared().load(BACKGROUND_IMAGE_PATH);
+    }
+
+    /**
+     * Show the cover on the event dispatch thread; onShown runs once the window is open and takes input.
+     */
+    public static void createAndShowCover(Runnable onGameStart, Runnable onShown) {
         SwingUtilities.invokeLater(() -> {
             Cover cover = new Cover(onGameStart);
+            cover.addWindowListener(new WindowAdapter() {
+                @Override
+                public void windowOpened(WindowEvent e) {
+                    onShown.run();
+                }
+            });
             cover.setVisible(true);
         });
     }
@@ -63,15 +79,19 @@ public class Cover extends JFrame {
             loadBackgroundImage();
         }
         
+        // The cover shows right away and the background appears once it is decoded
         private void loadBackgroundImage() {
-            try {
-                backgroundImage = ImageIO.read(new File(BACKGROUND_IMAGE_PATH));
-            } catch (IOException e) {
-                JOptionPane.showMessageDialog(this,
-                    "Error loading background image: " + e.getMessage(),
-                    "Resource Error",
-                    JOptionPane.ERROR_MESSAGE);
-            }
+            AssetManager.getShared().load(BACKGROUND_IMAGE_PATH).thenAccept(image -> SwingUtilities.invokeLater(() -> {
+                if (image == null) {
+                    JOptionPane.showMessageDialog(this,
+                        "Error loading background image: " + BACKGROUND_IMAGE_PATH,
+                        "Resource Error",
+                        JOptionPane.ERROR_MESSAGE);
+                    return;
+                }
+                backgroundImage = image;
+                repaint();
+            }));
         }
         
         @Override
@@ -1,20 +1,20 @@
 package view.coverPanel;
 
-import javax.imageio.ImageIO;
+import util.AssetManager;
+
 import javax.swing.*;
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Custom panel class for displaying rule images
  */
 public class RuleImagePanel extends JPanel {
-    private static final String RULES_IMAGE_PATH = "src/com/group7/resources/images/rules/";
-    private final List<BufferedImage> ruleImages;
+    private static final String RULES_IMAGE_PATH = "Rules/rule";
+    private final List<CompletableFuture<BufferedImage>> ruleImages;
     private int currentImageIndex;
     
     public RuleImagePanel() {
@@ -23,29 +23,42 @@ public class RuleImagePanel extends JPanel {
         loadRuleImages();
     }
     
-    private void loadRuleImages() {
-        File rulesDir = new File(RULES_IMAGE_PATH);
-        if (!rulesDir.exists() || !rulesDir.isDirectory()) {
-            showError("Rules directory not found");
-            return;
+    /**
+     * Rule pages in order: "Rules/rule1.png", "Rules/rule2.png", ... up to the first missing one.
+     */
+    private static List<String> ruleImageNames() {
+        List<String> names = new ArrayList<>();
+        for (int page = 1; AssetManager.exists(RULES_IMAGE_PATH + page + ".png"); page++) {
+            names.add(RULES_IMAGE_PATH + page + ".png");
         }
-        
-        File[] imageFiles = rulesDir.listFiles((dir, name) -> 
-            name.toLowerCase().endsWith(".png") || 
-            name.toLowerCase().endsWith(".jpg"));
-            
-        if (imageFiles == null || imageFiles.length == 0) {
+        return names;
+    }
+
+    /**
+     * Start decoding the rule pages in the background.
+     */
+    public static void preload() {
+        AssetManager.getShared().preload(ruleImageNames());
+    }
+
+    private void loadRuleImages() {
+        List<String> names = ruleImageNames();
+        if (names.isEmpty()) {
             showError("No rule images found");
             return;
         }
-        
-        for (File file : imageFiles) {
-            try {
-                BufferedImage image = ImageIO.read(file);
-                ruleImages.add(image);
-            } catch (IOException e) {
-                showError("Error loading rule image: " + file.getName());
-            }
+
+        // Pages show up as they finish decoding
+        for (String name : names) {
+            CompletableFuture<BufferedImage> image = AssetManager.getShared().load(name);
+            ruleImages.add(image);
+            image.thenAccept(decoded -> SwingUtilities.invokeLater(() -> {
+                if (decoded == null) {
+                    showError("Error loading rule image: " + name);
+                } else {
+                    repaint();
+                }
+            }));
         }
     }
     
@@ -74,7 +87,7 @@ public class RuleImagePanel extends JPanel {
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
         if (!ruleImages.isEmpty()) {
-            BufferedImage currentImage = ruleImages.get(currentImageIndex);
+            BufferedImage currentImage = ruleImages.get(currentImageIndex).getNow(null);
             if (currentImage != null) {
                 // Calculate dimensions to maintain aspect ratio
                 Dimension scaledDim = getScaledDimension(
@@ -23,7 +23,7 @@ public class HelicopterLiftDialog extends JDialog {
 
     public HelicopterLiftDialog(JFrame parent, Player currentPlayer, ActionListener listener) {
         super(parent, "Helicopter Rescue", true);
-        this.game = Game.getInstance();
+        this.game = currentPlayer.getGame();
         this.currentPlayer = currentPlayer;
         this.actionListener = listener;
         this.playerCheckBoxes = new ArrayList<>();
@@ -23,7 +23,7 @@ public class RoleActionDialog extends JDialog {
     public RoleActionDialog(JFrame parent, Player currentPlayer, ActionListener listener) {
         super(parent, "Role Special Ability", true);
         this.currentPlayer = currentPlayer;
-        this.game = Game.getInstance();
+        this.game = currentPlayer.getGame();
         this.actionListener = listener;
 
         initComponents();
@@ -36,9 +36,6 @@ public class RoleActionDialog extends JDialog {
 
         // Show the appropriate UI depending on the role's special action
         switch (currentPlayer.getRole()) {
-            case ENGINEER:
-                setupEngineerPanel();
-                break;
             case NAVIGATOR:
                 setupNavigatorPanel();
                 break;
@@ -55,45 +52,6 @@ public class RoleActionDialog extends JDialog {
         pack();
     }
 
-    private void setupEngineerPanel() {
-        JPanel panel = new JPanel(new BorderLayout(5, 5));
-        panel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
-
-        JLabel label = new JLabel("Select the second tile to shore up:");
-        panel.add(label, BorderLayout.NORTH);
-
-        // Get available flooded tiles
-        List<Tile> floodedTiles = game.getBoard().getFloodedTiles();
-        JList<Tile> tileList = new JList<>(floodedTiles.toArray(new Tile[0]));
-        tileList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
-
-        JScrollPane scrollPane = new JScrollPane(tileList);
-        panel.add(scrollPane, BorderLayout.CENTER);
-
-        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
-        JButton confirmButton = new JButton("Confirm");
-        JButton cancelButton = new JButton("Cancel");
-
-        confirmButton.addActionListener(e -> {
-            Tile selectedTile = tileList.getSelectedValue();
-            if (selectedTile != null) {
-                actionListener.onTileSelected(selectedTile);
-            }
-            dispose();
-        });
-
-        cancelButton.addActionListener(e -> {
-            actionListener.onActionCancelled();
-            dispose();
-        });
-
-        buttonPanel.add(confirmButton);
-        buttonPanel.add(cancelButton);
-        panel.add(buttonPanel, BorderLayout.SOUTH);
-
-        mainPanel.add(panel);
-    }
-
     private void setupNavigatorPanel() {
         JPanel panel = new JPanel(new BorderLayout(5, 5));
         panel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
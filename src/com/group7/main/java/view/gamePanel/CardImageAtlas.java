@@ -0,0 +1,122 @@
+package view.gamePanel;
+
+import model.card.Card;
+import model.card.FloodCard;
+import model.card.HelicopterLiftCard;
+import model.card.SandbagCard;
+import model.card.TreasureCard;
+import model.card.WaterRiseCard;
+import model.enums.TileType;
+import model.enums.TreasureType;
+import util.AssetManager;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Card faces at one size, packed into a single image: one slot per treasure type, one per special card
+ * and one per flood card tile. A face is scaled into its slot the first time it is asked for, from the
+ * artwork decoded by the {@link AssetManager}; the icons share the atlas raster.
+ */
+public final class CardImageAtlas {
+    private static final String TREASURE_DIRECTORY = "TreasureCards/";
+    private static final String FLOOD_DIRECTORY = "FloodCards/";
+
+    // Face slots: treasure types (in TreasureType order), then special cards, then one per flood card tile
+    private static final String[] TREASURE_FILES = {
+            "Card_Earth_Stone.png", "Card_Statue_of_the_Wind.png", "Card_Crystal_of_Fire.png", "Card_Oceans_Chalice.png"};
+    private static final int HELICOPTER_LIFT = TREASURE_FILES.length;
+    private static final int SANDBAG = HELICOPTER_LIFT + 1;
+    private static final int WATER_RISE = SANDBAG + 1;
+    private static final int FLOOD_CARDS = WATER_RISE + 1;
+    private static final int FACES = FLOOD_CARDS + TileType.values().length;
+    private static final int ATLAS_COLUMNS = 8;
+
+    private final int width;
+    private final int height;
+    private final BufferedImage atlas;
+    // Per slot: null until decoded, then the icon or NO_FACE when the artwork is missing
+    private final ImageIcon[] icons = new ImageIcon[FACES];
+    private static final ImageIcon NO_FACE = new ImageIcon();
+
+    public CardImageAtlas(int width, int height) {
+        this.width = width;
+        this.height = height;
+        int rows = (FACES + ATLAS_COLUMNS - 1) / ATLAS_COLUMNS;
+        this.atlas = new BufferedImage(ATLAS_COLUMNS * width, rows * height, BufferedImage.TYPE_INT_ARGB_PRE);
+    }
+
+    /**
+     * Face of the card at the atlas size, or null if it has no artwork.
+     */
+    public synchronized ImageIcon getIcon(Card card) {
+        int face = faceOf(card);
+        if (face < 0) {
+            return null;
+        }
+        if (icons[face] == null) {
+            icons[face] = load(face);
+        }
+        return icons[face] == NO_FACE ? null : icons[face];
+    }
+
+    /**
+     * Start decoding the artwork of the treasure deck cards, the ones a hand holds, in the background.
+     */
+    public static void preload() {
+        for (int face = 0; face < FLOOD_CARDS; face++) {
+            AssetManager.getShared().load(fileOf(face));
+        }
+    }
+
+    private static int faceOf(Card card) {
+        if (card instanceof TreasureCard) {
+            TreasureType type = ((TreasureCard) card).getTreasureType();
+            return type == null || type == TreasureType.NONE ? -1 : type.ordinal();
+        }
+        if (card instanceof HelicopterLiftCard) {
+            return HELICOPTER_LIFT;
+        }
+        if (card instanceof SandbagCard) {
+            return SANDBAG;
+        }
+        if (card instanceof WaterRiseCard) {
+            return WATER_RISE;
+        }
+        if (card instanceof FloodCard) {
+            return FLOOD_CARDS + ((FloodCard) card).getTileType().ordinal();
+        }
+        return -1;
+    }
+
+    private static String fileOf(int face) {
+        if (face < TREASURE_FILES.length) {
+            return TREASURE_DIRECTORY + TREASURE_FILES[face];
+        }
+        if (face == HELICOPTER_LIFT) {
+            return TREASURE_DIRECTORY + "Card_Helicopter.png";
+        }
+        if (face == SANDBAG) {
+            return TREASURE_DIRECTORY + "Card_Sand_Bag.png";
+        }
+        if (face == WATER_RISE) {
+            return TREASURE_DIRECTORY + "Card_Waters_Rise.png";
+        }
+        // Flood card art is named after the tile artwork, e.g. "Flood_Card_Bronze Gate@2x.png"
+        return FLOOD_DIRECTORY + "Flood_Card_" + TileType.values()[face - FLOOD_CARDS].getImagePath();
+    }
+
+    private ImageIcon load(int face) {
+        BufferedImage source = AssetManager.getShared().get(fileOf(face));
+        if (source == null) {
+            return NO_FACE;
+        }
+        int x = face % ATLAS_COLUMNS * width;
+        int y = face / ATLAS_COLUMNS * height;
+        Graphics2D g = atlas.createGraphics();
+        g.drawImage(TileImageCache.scale(source, width, height), x, y, null);
+        g.dispose();
+        return new ImageIcon(atlas.getSubimage(x, y, width, height));
+    }
+}
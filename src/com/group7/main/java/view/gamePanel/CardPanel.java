@@ -1,7 +1,11 @@
 package view.gamePanel;
 
+import model.card.Card;
+
 import javax.swing.*;
 import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
 
 public class CardPanel extends JPanel {
 
@@ -15,6 +19,11 @@ public class CardPanel extends JPanel {
     private static final int CARD_WIDTH = 80;
     private static final int CARD_HEIGHT = 120;
     private static final int CARD_SPACING = 10;
+    private static final CardImageAtlas CARD_FACES = new CardImageAtlas(CARD_WIDTH, CARD_HEIGHT - 20);
+
+    // Card components of the hand, reused between updates; those past the hand size are hidden
+    private final List<CardView> cardViews = new ArrayList<>();
+    private int shownCards;
 
     public CardPanel() {
         setPreferredSize(new Dimension(0, 150));
@@ -87,77 +96,53 @@ public class CardPanel extends JPanel {
     }
 
     /**
-     * Update the display of player's hand cards
+     * Update the display of player's hand cards.
+     * Card components are kept in a pool and rebound to the new hand; only a hand larger than any
+     * shown before creates components, and the layout is redone only when the number of cards changes.
      * @param cards The cards in player's hand
      */
-    public void updatePlayerHand(String[] cards) {
-        playerHandPanel.removeAll();
-
-        for (String card : cards) {
-            JPanel cardComponent = createCardComponentWithImage(card);
-            playerHandPanel.add(cardComponent);
+    public void updatePlayerHand(List<? extends Card> cards) {
+        while (cardViews.size() < cards.size()) {
+            CardView view = new CardView();
+            cardViews.add(view);
+            playerHandPanel.add(view);
+        }
+        for (int i = 0; i < cardViews.size(); i++) {
+            CardView view = cardViews.get(i);
+            if (i < cards.size()) {
+                view.bind(cards.get(i));
+            }
+            view.setVisible(i < cards.size());
+        }
+        if (cards.size() != shownCards) {
+            shownCards = cards.size();
+            playerHandPanel.revalidate();
         }
-
-        playerHandPanel.revalidate();
         playerHandPanel.repaint();
     }
 
     /**
-     * Create a single card component with image
+     * A single card in the hand: the card face, or the card name when there is no artwork.
      */
-    private JPanel createCardComponentWithImage(String cardName) {
-        JPanel cardPanel = new JPanel();
-        cardPanel.setPreferredSize(new Dimension(CARD_WIDTH, CARD_HEIGHT));
-        cardPanel.setLayout(new BorderLayout());
-        cardPanel.setBorder(BorderFactory.createCompoundBorder(
-                BorderFactory.createLineBorder(Color.BLACK),
-                BorderFactory.createEmptyBorder(5, 5, 5, 5)
-        ));
-        cardPanel.setBackground(Color.WHITE);
-
-        // 尝试加载图片
-        JLabel imgLabel = new JLabel();
-        String imagePath = getCardImagePath(cardName);
-        if (imagePath != null) {
-            try {
-                ImageIcon icon = new ImageIcon(imagePath);
-                Image img = icon.getImage().getScaledInstance(CARD_WIDTH, CARD_HEIGHT - 20, Image.SCALE_SMOOTH);
-                imgLabel.setIcon(new ImageIcon(img));
-            } catch (Exception e) {
-                // 加载失败则显示文字
-                imgLabel.setText(cardName);
-                imgLabel.setHorizontalAlignment(SwingConstants.CENTER);
-            }
-        } else {
-            imgLabel.setText(cardName);
+    private static class CardView extends JPanel {
+        private final JLabel imgLabel = new JLabel();
+
+        CardView() {
+            setPreferredSize(new Dimension(CARD_WIDTH, CARD_HEIGHT));
+            setLayout(new BorderLayout());
+            setBorder(BorderFactory.createCompoundBorder(
+                    BorderFactory.createLineBorder(Color.BLACK),
+                    BorderFactory.createEmptyBorder(5, 5, 5, 5)
+            ));
+            setBackground(Color.WHITE);
             imgLabel.setHorizontalAlignment(SwingConstants.CENTER);
+            add(imgLabel, BorderLayout.CENTER);
         }
-        cardPanel.add(imgLabel, BorderLayout.CENTER);
-        return cardPanel;
-    }
 
-    /**
-     * 根据卡牌名推断图片路径
-     */
-    private String getCardImagePath(String cardName) {
-        String baseTreasure = "src/com/group7/resources/images/TreasureCards/";
-        String baseFlood = "src/com/group7/resources/images/FloodCards/";
-        // 宝藏卡
-        if (cardName.startsWith("FIRE")) return baseTreasure + "Card_Crystal_of_Fire.png";
-        if (cardName.startsWith("EARTH")) return baseTreasure + "Card_Earth_Stone.png";
-        if (cardName.startsWith("OCEAN")) return baseTreasure + "Card_Oceans_Chalice.png";
-        if (cardName.startsWith("WIND")) return baseTreasure + "Card_Statue_of_the_Wind.png";
-        // 特殊卡
-        if (cardName.contains("Helicopter")) return baseTreasure + "Card_Helicopter.png";
-        if (cardName.contains("Sandbag")) return baseTreasure + "Card_Sand_Bag.png";
-        if (cardName.contains("water level rises") || cardName.contains("Waters Rise")) return baseTreasure + "Card_Waters_Rise.png";
-        // 洪水卡
-        if (cardName.endsWith("Flood Card")) {
-            String tileName = cardName.replace(" Flood Card", "");
-            // 兼容文件名中的下划线和@2x
-            String fileName = "Flood_Card_" + tileName + "@2x.png";
-            return baseFlood + fileName;
+        void bind(Card card) {
+            ImageIcon icon = CARD_FACES.getIcon(card);
+            imgLabel.setIcon(icon);
+            imgLabel.setText(icon == null ? card.getName() : null);
         }
-        return null;
     }
 }
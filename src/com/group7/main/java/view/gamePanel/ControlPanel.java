@@ -4,9 +4,6 @@ import lombok.Getter;
 
 import javax.swing.*;
 import java.awt.*;
-import java.util.List;
-import model.Game;
-import model.card.Card;
 
 /***
  * Player action panel
@@ -104,25 +101,7 @@ public class ControlPanel extends JPanel {
         add(endTurnButton);
         add(viewTreasureDiscardButton);
         add(viewFloodDiscardButton);
-
-        // Add discard pile button events
-        viewTreasureDiscardButton.addActionListener(e -> {
-            List<? extends Card> handCards = Game.getInstance().getTreasureDeck().getDiscardPile();
-            showDiscardPile("Treasure Discard Pile", new java.util.ArrayList<Card>(handCards));
-        });
-        viewFloodDiscardButton.addActionListener(e -> {
-            List<? extends Card> floodCards = Game.getInstance().getFloodDeck().getDiscardPile();
-            showDiscardPile("Flood Discard Pile", new java.util.ArrayList<Card>(floodCards));
-        });
-    }
-
-    private void showDiscardPile(String title, List<Card> discardPile) {
-        JDialog dialog = new JDialog((JFrame) SwingUtilities.getWindowAncestor(this), title, true);
-        JList<Card> cardList = new JList<>(discardPile.toArray(new Card[0]));
-        dialog.add(new JScrollPane(cardList));
-        dialog.pack();
-        dialog.setLocationRelativeTo(this);
-        dialog.setVisible(true);
+        // Discard pile button events are bound by the front end, which knows the running game
     }
 
     /**
@@ -3,16 +3,23 @@ package view.gamePanel;
 import lombok.Setter;
 import model.Tile;
 import model.Board;
+import model.enums.TileState;
 import model.enums.TreasureType;
 
 import javax.swing.*;
+import javax.swing.plaf.LayerUI;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 
+/**
+ * The island, painted as one component. {@link #updateBoard} copies what each cell shows from the model
+ * and repaints only the cells whose picture changed; {@link #paintComponent} draws tiles, state, treasure
+ * and pawns for the cells inside the clip. Highlights are a cell mask drawn by the overlay from
+ * {@link #createLayer()}, so changing them repaints the toggled cells without touching the tiles.
+ */
 public class GameBoardPanel extends JPanel {
 
-    private JPanel[][] tilePanels;
     private final int TILE_SIZE = 70;
     private final int GRID_SIZE = 6;
     private final int GAP = 5;
@@ -21,40 +28,40 @@ public class GameBoardPanel extends JPanel {
     private final Color NORMAL_COLOR = new Color(144, 238, 144);   // Light green
     private final Color FLOODED_COLOR = new Color(135, 206, 250);  // Light blue
     private final Color SUNKEN_COLOR = new Color(25, 25, 112);     // Dark blue
-    private final Color EMPTY_COLOR = new Color(0, 0, 0, 0);       // Transparent (for empty corners)
+    private static final Color[] PLAYER_COLORS = {Color.RED, Color.BLUE, Color.GREEN, Color.ORANGE};
 
     private final int HORIZONTAL_MARGIN = 150; // Horizontal margin to center the board
 
+    // What each cell (row * GRID_SIZE + col) showed at the last update; a null tile is open sea
+    private final Tile[] tiles = new Tile[GRID_SIZE * GRID_SIZE];
+    private final TileState[] states = new TileState[GRID_SIZE * GRID_SIZE];
+    private final int[] occupants = new int[GRID_SIZE * GRID_SIZE];
+
     @Setter
     private TileClickListener tileClickListener;
     public interface TileClickListener {
         void onTileClicked(int row, int col);
     }
 
-    private java.util.Set<String> highlightedTiles = new java.util.HashSet<>();
-    public void highlightTiles(java.util.List<int[]> positions) {
-        highlightedTiles.clear();
-        for (int[] pos : positions) {
-            highlightedTiles.add(pos[0] + "," + pos[1]);
+    // Highlighted cells, bit row * GRID_SIZE + col as in the board's cell masks
+    private long highlightMask;
+
+    /**
+     * Highlight the given cells (a board cell mask, e.g. {@link Board#getMovableMask}) and nothing else.
+     */
+    public void highlightCells(long mask) {
+        long changed = highlightMask ^ mask;
+        highlightMask = mask;
+        for (; changed != 0; changed &= changed - 1) {
+            int cell = Long.numberOfTrailingZeros(changed);
+            repaint(tileBounds(cell / GRID_SIZE, cell % GRID_SIZE));
         }
-        updateBoardHighlight();
     }
     public void clearHighlight() {
-        highlightedTiles.clear();
-        updateBoardHighlight();
+        highlightCells(0);
     }
-    private void updateBoardHighlight() {
-        for (int row = 0; row < GRID_SIZE; row++) {
-            for (int col = 0; col < GRID_SIZE; col++) {
-                JPanel tilePanel = tilePanels[row][col];
-                if (highlightedTiles.contains(row + "," + col)) {
-                    tilePanel.setBorder(BorderFactory.createLineBorder(Color.RED, 3));
-                } else {
-                    tilePanel.setBorder(BorderFactory.createLineBorder(Color.WHITE, 1));
-                }
-            }
-        }
-        repaint();
+    public long getHighlightMask() {
+        return highlightMask;
     }
 
     public enum Mode { NORMAL, MOVE }
@@ -63,163 +70,170 @@ public class GameBoardPanel extends JPanel {
     public Mode getMode() { return currentMode; }
 
     public GameBoardPanel() {
-        this.tilePanels = new JPanel[GRID_SIZE][GRID_SIZE];
-
-        setLayout(null); // Use absolute layout
+        setLayout(null);
         // Panel width increased to accommodate horizontal margin
         setPreferredSize(new Dimension(GRID_SIZE * (TILE_SIZE + GAP) + GAP + HORIZONTAL_MARGIN * 2,
                 GRID_SIZE * (TILE_SIZE + GAP) + GAP));
         setBackground(new Color(0, 50, 100)); // Deep blue ocean background
-        initializeTilePanels();
+
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                int col = Math.floorDiv(e.getX() - HORIZONTAL_MARGIN - GAP, TILE_SIZE + GAP);
+                int row = Math.floorDiv(e.getY() - GAP, TILE_SIZE + GAP);
+                if (row < 0 || row >= GRID_SIZE || col < 0 || col >= GRID_SIZE
+                        || !tileBounds(row, col).contains(e.getPoint()) || tileClickListener == null) {
+                    return;
+                }
+                tileClickListener.onTileClicked(row, col);
+                if (currentMode == Mode.MOVE) {
+                    setMode(Mode.NORMAL); // Exit move mode automatically after moving
+                }
+            }
+        });
     }
 
     /**
-     * Initialize all tile panels
+     * Update the game board display according to the Board object.
+     * Only cells whose tile, state or pawns changed are repainted.
      */
-    private void initializeTilePanels() {
+    public void updateBoard(Board board) {
         for (int row = 0; row < GRID_SIZE; row++) {
             for (int col = 0; col < GRID_SIZE; col++) {
-                int x = HORIZONTAL_MARGIN + GAP + col * (TILE_SIZE + GAP);
-                int y = GAP + row * (TILE_SIZE + GAP);
-
-                JPanel tilePanel = new JPanel();
-                tilePanel.setLayout(new BorderLayout());
-                tilePanel.setBounds(x, y, TILE_SIZE, TILE_SIZE);
-                tilePanel.setBorder(BorderFactory.createLineBorder(Color.WHITE, 1));
-
-                final int finalRow = row;
-                final int finalCol = col;
-                tilePanel.addMouseListener(new MouseAdapter() {
-                    @Override
-                    public void mouseClicked(MouseEvent e) {
-                        if (currentMode == Mode.MOVE && tileClickListener != null) {
-                            tileClickListener.onTileClicked(finalRow, finalCol);
-                            setMode(Mode.NORMAL); // Exit move mode automatically after moving
-                        } else if (tileClickListener != null) {
-                            tileClickListener.onTileClicked(finalRow, finalCol);
-                        }
-                    }
-                });
-
-                tilePanels[row][col] = tilePanel;
-                add(tilePanel);
+                int cell = row * GRID_SIZE + col;
+                Tile tile = board.getTile(row, col);
+                TileState state = tile == null ? null : tile.getState();
+                int pawns = board.getOccupants(tile);
+                if (tile != tiles[cell] || state != states[cell] || pawns != occupants[cell]) {
+                    tiles[cell] = tile;
+                    states[cell] = state;
+                    occupants[cell] = pawns;
+                    repaint(tileBounds(row, col));
+                }
             }
         }
     }
 
     /**
-     * Update the game board display according to the Board object
+     * Screen rectangle of a cell, including its border.
      */
-    public void updateBoard(Board board) {
+    private Rectangle tileBounds(int row, int col) {
+        return new Rectangle(HORIZONTAL_MARGIN + GAP + col * (TILE_SIZE + GAP), GAP + row * (TILE_SIZE + GAP),
+                TILE_SIZE, TILE_SIZE);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Rectangle clip = g.getClipBounds();
         for (int row = 0; row < GRID_SIZE; row++) {
             for (int col = 0; col < GRID_SIZE; col++) {
-                try {
-                    Tile tile = board.getTile(row, col);
-                    updateTilePanel(row, col, tile);
-                } catch (IllegalArgumentException e) {
-                    // Handle empty tiles (corners have no tile)
-                    tilePanels[row][col].setBackground(EMPTY_COLOR);
-                    tilePanels[row][col].setOpaque(false);
-                    tilePanels[row][col].removeAll();
+                Rectangle bounds = tileBounds(row, col);
+                if (clip == null || clip.intersects(bounds)) {
+                    paintTile((Graphics2D) g.create(bounds.x, bounds.y, bounds.width, bounds.height), row, col);
                 }
             }
         }
-        updateBoardHighlight();
-        revalidate();
-        repaint();
     }
 
     /**
-     * Update the display for a single tile panel
+     * Draw one cell in its own coordinates (0, 0) to (TILE_SIZE, TILE_SIZE).
      */
-    private void updateTilePanel(int row, int col, Tile tile) {
-        JPanel tilePanel = tilePanels[row][col];
-        tilePanel.removeAll();
-
-        if (tile == null) {
-            tilePanel.setBackground(EMPTY_COLOR);
-            tilePanel.setOpaque(false);
-            return;
-        }
+    private void paintTile(Graphics2D g, int row, int col) {
+        int cell = row * GRID_SIZE + col;
+        Tile tile = tiles[cell];
+        TileState state = states[cell];
+        try {
+            if (tile == null) {
+                return;
+            }
 
-        // Set color based on tile state
-        if (tile.isSunk()) {
-            tilePanel.setBackground(SUNKEN_COLOR);
-            tilePanel.setOpaque(true);
-        } else if (tile.isFlooded()) {
-            tilePanel.setBackground(FLOODED_COLOR);
-            tilePanel.setOpaque(true);
-        } else {
-            tilePanel.setBackground(NORMAL_COLOR);
-            tilePanel.setOpaque(true);
-        }
+            // Background color based on tile state, then the tile image
+            g.setColor(state == TileState.SUNK ? SUNKEN_COLOR : state == TileState.FLOODED ? FLOODED_COLOR : NORMAL_COLOR);
+            g.fillRect(0, 0, TILE_SIZE, TILE_SIZE);
+            ImageIcon icon = TileImageCache.getShared().getIcon(tile.getType(), state, TILE_SIZE, TILE_SIZE);
+            if (icon != null) {
+                g.drawImage(icon.getImage(), 0, 0, null);
+            }
 
-        // Load and display the tile image
-        try {
-            String imagePath = "src/com/group7/resources/images/Tiles/" + tile.getType().getImagePath();
-            ImageIcon icon = new ImageIcon(imagePath);
-            Image img = icon.getImage().getScaledInstance(TILE_SIZE, TILE_SIZE, Image.SCALE_SMOOTH);
-            JLabel imgLabel = new JLabel(new ImageIcon(img));
-            imgLabel.setHorizontalAlignment(SwingConstants.CENTER);
-            tilePanel.add(imgLabel, BorderLayout.CENTER);
-        } catch (Exception e) {
-            // Ignore if the image fails to load
-        }
+            // Tile name at the bottom and state at the top; white on sunken tiles
+            g.setFont(getFont());
+            FontMetrics metrics = g.getFontMetrics();
+            Color text = state == TileState.SUNK ? Color.WHITE : Color.BLACK;
+            drawCentered(g, tile.getType().getDisplayName(), TILE_SIZE - metrics.getDescent() - 1, text);
+            if (state == TileState.FLOODED) {
+                drawCentered(g, "Flooded", metrics.getAscent(), text);
+            } else if (state == TileState.SUNK) {
+                drawCentered(g, "Sunken", metrics.getAscent(), text);
+            }
 
-        // Add the tile type name label
-        JLabel nameLabel = new JLabel(tile.getType().getDisplayName());
-        nameLabel.setHorizontalAlignment(SwingConstants.CENTER);
-        nameLabel.setForeground(tile.isSunk() ? Color.WHITE : Color.BLACK); // Use white for sunken tiles
-        tilePanel.add(nameLabel, BorderLayout.SOUTH);
-
-        // Add tile state label
-        JLabel stateLabel = new JLabel();
-        if (tile.isFlooded()) {
-            stateLabel.setText("Flooded");
-        } else if (tile.isSunk()) {
-            stateLabel.setText("Sunken");
-        }
-        stateLabel.setHorizontalAlignment(SwingConstants.CENTER);
-        stateLabel.setForeground(tile.isSunk() ? Color.WHITE : Color.BLACK);
-        tilePanel.add(stateLabel, BorderLayout.NORTH);
-
-        // Show treasure info if present
-        if (tile.getTreasure() != null && tile.getTreasure() != TreasureType.NONE) {
-            JLabel treasureLabel = new JLabel(tile.getTreasure().toString());
-            treasureLabel.setHorizontalAlignment(SwingConstants.CENTER);
-            treasureLabel.setForeground(Color.RED);
-            tilePanel.add(treasureLabel, BorderLayout.WEST);
-        }
+            // Treasure on the left edge
+            if (tile.getTreasure() != null && tile.getTreasure() != TreasureType.NONE) {
+                g.setColor(Color.RED);
+                g.drawString(tile.getTreasure().toString(), 2, (TILE_SIZE + metrics.getAscent()) / 2);
+            }
 
-        // Show players on this tile
-        java.util.List<model.Player> players = tile.getPlayersOnTile();
-        if (players != null && !players.isEmpty()) {
-            JPanel playerPanel = new JPanel();
-            playerPanel.setOpaque(false);
-            playerPanel.setLayout(new FlowLayout(FlowLayout.CENTER, 2, 2));
-            Color[] colors = {Color.RED, Color.BLUE, Color.GREEN, Color.ORANGE};
-            for (model.Player p : players) {
-                JLabel playerDot = new JLabel("●");
-                playerDot.setForeground(colors[(p.getPlayerId() - 1) % colors.length]);
-                playerDot.setToolTipText("Player " + p.getPlayerId());
-                playerPanel.add(playerDot);
+            // One dot per pawn on the right edge
+            int dot = 10;
+            int y = 2;
+            for (int pawns = occupants[cell]; pawns != 0; pawns &= pawns - 1) {
+                int slot = Integer.numberOfTrailingZeros(pawns);
+                g.setColor(PLAYER_COLORS[slot % PLAYER_COLORS.length]);
+                g.fillOval(TILE_SIZE - dot - 2, y, dot, dot);
+                y += dot + 2;
             }
-            tilePanel.add(playerPanel, BorderLayout.EAST);
+
+            // Border; the overlay draws over it when highlighted
+            g.setColor(Color.WHITE);
+            g.drawRect(0, 0, TILE_SIZE - 1, TILE_SIZE - 1);
+        } finally {
+            g.dispose();
         }
     }
 
+    private void drawCentered(Graphics2D g, String text, int baseline, Color color) {
+        g.setColor(color);
+        int width = g.getFontMetrics().stringWidth(text);
+        g.drawString(text, Math.max(0, (TILE_SIZE - width) / 2), baseline);
+    }
+
+    public boolean isTileHighlighted(int row, int col) {
+        return row >= 0 && row < GRID_SIZE && col >= 0 && col < GRID_SIZE
+                && (highlightMask & (1L << (row * GRID_SIZE + col))) != 0;
+    }
+
     /**
-     * Get the tile panel at a specific position
+     * Wrap this board in a layer that paints the highlight overlay; add the layer to the frame instead of the board.
+     * A repaint of the board goes through the layer, so the overlay follows every tile repaint.
      */
-    public JPanel getTilePanel(int row, int col) {
-        if (row >= 0 && row < GRID_SIZE && col >= 0 && col < GRID_SIZE) {
-            return tilePanels[row][col];
-        }
-        return null;
+    public JLayer<GameBoardPanel> createLayer() {
+        return new JLayer<>(this, new HighlightLayerUI());
     }
 
-    public boolean isTileHighlighted(int row, int col) {
-        return highlightedTiles.contains(row + "," + col);
+    /**
+     * Red border around every highlighted cell.
+     */
+    private static class HighlightLayerUI extends LayerUI<GameBoardPanel> {
+        private static final Stroke STROKE = new BasicStroke(3);
+
+        @Override
+        public void paint(Graphics g, JComponent c) {
+            super.paint(g, c);
+            @SuppressWarnings("unchecked")
+            GameBoardPanel board = ((JLayer<GameBoardPanel>) c).getView();
+            long mask = board.highlightMask;
+            if (mask == 0) {
+                return;
+            }
+            Graphics2D g2 = (Graphics2D) g.create();
+            g2.setColor(Color.RED);
+            g2.setStroke(STROKE);
+            for (; mask != 0; mask &= mask - 1) {
+                int cell = Long.numberOfTrailingZeros(mask);
+                Rectangle bounds = board.tileBounds(cell / board.GRID_SIZE, cell % board.GRID_SIZE);
+                g2.drawRect(bounds.x + 1, bounds.y + 1, bounds.width - 3, bounds.height - 3);
+            }
+            g2.dispose();
+        }
     }
 }
-
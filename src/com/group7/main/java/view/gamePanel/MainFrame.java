@@ -89,7 +89,7 @@ public class MainFrame extends JFrame {
 
         // Wrap game board for centering
         JPanel gameBoardWrapper = new JPanel(new GridBagLayout());
-        gameBoardWrapper.add(gameBoardPanel);
+        gameBoardWrapper.add(gameBoardPanel.createLayer());
         centerPanel.add(gameBoardWrapper, BorderLayout.CENTER);
         centerPanel.add(cardPanel, BorderLayout.SOUTH);
 
@@ -206,8 +206,7 @@ public class MainFrame extends JFrame {
     }
 
     public void updatePlayerHand(java.util.List<model.card.Card> hand) {
-        String[] cardNames = hand.stream().map(model.card.Card::getName).toArray(String[]::new);
-        cardPanel.updatePlayerHand(cardNames);
+        cardPanel.updatePlayerHand(hand);
     }
 
 }
@@ -0,0 +1,107 @@
+package view.gamePanel;
+
+import model.enums.TileState;
+import model.enums.TileType;
+import util.AssetManager;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tile artwork decoded once per file by the {@link AssetManager} and scaled once per (tile type, state, size).
+ * Flooded tiles use the "_flood" artwork when it exists; sunk tiles keep the normal artwork.
+ * Scaling halves the image with bilinear filtering until it is within 2x of the target, which looks
+ * close to {@link Image#SCALE_SMOOTH} at a fraction of its cost.
+ */
+public final class TileImageCache {
+    private static final String TILE_DIRECTORY = "Tiles/";
+    private static final String SUFFIX = "@2x.png";
+    private static final String FLOOD_SUFFIX = "_flood@2x.png";
+    private static final TileImageCache SHARED = new TileImageCache(AssetManager.getShared(), TILE_DIRECTORY);
+
+    private final AssetManager assets;
+    // Asset directory of the artwork, relative to the images folder
+    private final String directory;
+    private final Map<Long, ImageIcon> scaled = new HashMap<>();
+
+    public TileImageCache(AssetManager assets, String directory) {
+        this.assets = assets;
+        this.directory = directory;
+    }
+
+    /**
+     * Cache shared by the board views.
+     */
+    public static TileImageCache getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Artwork of the tile in the given state scaled to the given size, or null if there is none.
+     */
+    public synchronized ImageIcon getIcon(TileType type, TileState state, int width, int height) {
+        long key = ((long) (type.ordinal() * TileState.values().length + state.ordinal()) << 32)
+                | ((long) width << 16) | height;
+        if (scaled.containsKey(key)) {
+            return scaled.get(key);
+        }
+        BufferedImage image = state == TileState.FLOODED ? load(floodImageName(type)) : null;
+        if (image == null) {
+            image = load(type.getImagePath());
+        }
+        ImageIcon icon = image == null ? null : new ImageIcon(scale(image, width, height));
+        scaled.put(key, icon);
+        return icon;
+    }
+
+    /**
+     * Start decoding the artwork of every tile in the background.
+     */
+    public void preload() {
+        for (TileType type : TileType.values()) {
+            if (type != TileType.NONE) {
+                assets.load(directory + type.getImagePath());
+                assets.load(directory + floodImageName(type));
+            }
+        }
+    }
+
+    /**
+     * Drop every scaled image.
+     */
+    public synchronized void clear() {
+        scaled.clear();
+    }
+
+    private static String floodImageName(TileType type) {
+        String name = type.getImagePath();
+        return name.endsWith(SUFFIX) ? name.substring(0, name.length() - SUFFIX.length()) + FLOOD_SUFFIX : name;
+    }
+
+    private BufferedImage load(String name) {
+        return assets.get(directory + name);
+    }
+
+    /**
+     * Scale with repeated bilinear halving, then one final bilinear step to the exact size.
+     */
+    static BufferedImage scale(BufferedImage source, int width, int height) {
+        BufferedImage current = source;
+        int w = source.getWidth();
+        int h = source.getHeight();
+        do {
+            w = w / 2 >= width ? w / 2 : width;
+            h = h / 2 >= height ? h / 2 : height;
+            BufferedImage next = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB_PRE);
+            Graphics2D g = next.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(current, 0, 0, w, h, null);
+            g.dispose();
+            current = next;
+        } while (w != width || h != height);
+        return current;
+    }
+}
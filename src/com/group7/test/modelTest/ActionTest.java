@@ -0,0 +1,129 @@
+package modelTest;
+
+import model.Action;
+import model.ActionBuffer;
+import model.BoardState;
+import model.Game;
+import model.Player;
+import model.Tile;
+import model.TurnManager;
+import model.card.SandbagCard;
+import model.card.TreasureCard;
+import model.enums.Role;
+import model.enums.ActionType;
+import model.enums.TreasureType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ActionTest {
+
+    @Test
+    public void packedFieldsRoundTrip() {
+        int move = Action.move(35);
+        assertEquals(ActionType.MOVE, Action.type(move));
+        assertEquals(35, Action.cell(move));
+
+        int give = Action.giveCard(3, 17);
+        assertEquals(ActionType.GIVE_CARD, Action.type(give));
+        assertEquals(3, Action.targetPlayer(give));
+        assertEquals(17, Action.handIndex(give));
+
+        assertEquals(ActionType.END_TURN, Action.type(Action.endTurn()));
+    }
+
+    @Test
+    public void generatedMovesApplyAndSpendActions() {
+        Game game = new Game(42);
+        game.startGame(4);
+        TurnManager turnManager = game.getTurnManager();
+        Player player = game.getCurrentPlayer();
+        ActionBuffer actions = new ActionBuffer(1);
+
+        turnManager.generateActions(player, actions);
+        assertEquals(Action.endTurn(), actions.get(actions.size() - 1));
+        int move = -1;
+        for (int i = 0; i < actions.size(); i++) {
+            if (Action.type(actions.get(i)) == ActionType.MOVE) {
+                move = actions.get(i);
+                break;
+            }
+        }
+        assertTrue(move >= 0);
+
+        int before = player.getRemainingActions();
+        assertTrue(turnManager.applyAction(move));
+        Tile tile = player.getCurrentTile();
+        assertEquals(Action.cell(move), BoardState.cell(tile.getRow(), tile.getCol()));
+        assertEquals(before - 1, player.getRemainingActions());
+
+        // The player cannot move onto the tile it already stands on
+        assertFalse(turnManager.applyAction(Action.move(Action.cell(move))));
+
+        assertTrue(turnManager.applyAction(Action.endTurn()));
+        assertEquals(0, player.getRemainingActions());
+        turnManager.generateActions(player, actions);
+        assertTrue(actions.isEmpty());
+    }
+
+    @Test
+    public void specialCardsArePlayableAfterTheLastAction() {
+        Game game = new Game(42);
+        game.startGame(4);
+        TurnManager turnManager = game.getTurnManager();
+        Player player = game.getCurrentPlayer();
+        ActionBuffer actions = new ActionBuffer(1);
+        Tile flooded = game.getBoard().getAllTiles().stream().filter(t -> !t.isSunk()).findFirst().orElseThrow();
+        game.getBoard().floodTile(flooded);
+        player.addCardToHand(new SandbagCard());
+
+        assertTrue(turnManager.applyAction(Action.endTurn()));
+        assertEquals(0, player.getRemainingActions());
+
+        // Only the Sandbag targets are left, with ending the turn as the way to pass
+        turnManager.generateActions(player, actions);
+        assertEquals(Action.endTurn(), actions.get(actions.size() - 1));
+        int sandbag = -1;
+        for (int i = 0; i < actions.size() - 1; i++) {
+            assertEquals(ActionType.USE_SPECIAL_CARD, Action.type(actions.get(i)));
+            if (Action.cell(actions.get(i)) == BoardState.cell(flooded.getRow(), flooded.getCol())) {
+                sandbag = actions.get(i);
+            }
+        }
+        assertTrue(sandbag >= 0);
+
+        assertTrue(turnManager.applyAction(sandbag));
+        assertFalse(flooded.isFlooded());
+        assertEquals(0, player.getRemainingActions());
+    }
+
+    @Test
+    public void giftsAreOfferedOncePerTreasureType() {
+        Game game = new Game(42);
+        game.startGame(4);
+        TurnManager turnManager = game.getTurnManager();
+        Player player = game.getCurrentPlayer();
+        ActionBuffer actions = new ActionBuffer(1);
+        player.setRole(Role.MESSENGER);
+        while (!player.getHand().isEmpty()) {
+            player.discardCard(player.getHand().get(0));
+        }
+        player.addCardToHand(new TreasureCard("Earth Stone", "", TreasureType.EARTH));
+        player.addCardToHand(new TreasureCard("Crystal of Fire", "", TreasureType.FIRE));
+        player.addCardToHand(new TreasureCard("Earth Stone", "", TreasureType.EARTH));
+
+        turnManager.generateActions(player, actions);
+        int[] gifts = new int[game.getPlayers().size()];
+        for (int i = 0; i < actions.size(); i++) {
+            if (Action.type(actions.get(i)) == ActionType.GIVE_CARD) {
+                gifts[Action.targetPlayer(actions.get(i))]++;
+                assertTrue(Action.handIndex(actions.get(i)) < 2);
+            }
+        }
+        for (int target = 0; target < gifts.length; target++) {
+            assertEquals(game.getPlayers().get(target) == player ? 0 : 2, gifts[target]);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package modelTest;
+
+import org.junit.jupiter.api.Test;
+import util.AssetManager;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AssetManagerTest {
+
+    @Test
+    public void imagesAreDecodedOnceInTheBackground() {
+        List<Runnable> queued = new ArrayList<>();
+        AssetManager assets = new AssetManager(queued::add);
+
+        assertSame(assets.load("TitleScreen.png"), assets.load("TitleScreen.png"));
+        assertEquals(1, queued.size());
+        assertFalse(assets.load("TitleScreen.png").isDone());
+
+        queued.get(0).run();
+        BufferedImage image = assets.load("TitleScreen.png").join();
+        assertNotNull(image);
+        assertSame(image, assets.get("TitleScreen.png"));
+    }
+
+    @Test
+    public void getDecodesOnTheCallerWhenNotStarted() {
+        // An executor that never runs anything: get must not wait for it
+        AssetManager assets = new AssetManager(task -> { });
+        assertNotNull(assets.get("Tiles/Bronze Gate@2x.png"));
+        assertTrue(assets.load("Tiles/Bronze Gate@2x.png").isDone());
+    }
+
+    @Test
+    public void missingImagesCompleteWithNull() {
+        AssetManager assets = new AssetManager(Runnable::run);
+        assertFalse(AssetManager.exists("Tiles/No Such Tile.png"));
+        assertTrue(AssetManager.exists("Rules/rule1.png"));
+        assertNull(assets.get("Tiles/No Such Tile.png"));
+        assertNull(assets.load("Tiles/No Such Tile.png").join());
+    }
+}
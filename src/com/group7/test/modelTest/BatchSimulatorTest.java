@@ -0,0 +1,33 @@
+package modelTest;
+
+import model.sim.BatchSimulator;
+import model.sim.RandomActionPolicy;
+import model.sim.SimulationReport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BatchSimulatorTest {
+
+    @Test
+    public void everyGameEndsInAWinOrARecordedLoss() {
+        BatchSimulator simulator = new BatchSimulator(4, new RandomActionPolicy(), 2, 42L);
+        SimulationReport report = simulator.run(200);
+
+        long losses = report.getLossReasons().values().stream().mapToLong(Long::longValue).sum();
+        assertEquals(200, report.getGames());
+        assertEquals(200, report.getWins() + losses);
+        assertTrue(report.getGamesPerSecond() > 0);
+    }
+
+    @Test
+    public void sameSeedGivesSameResultOnAnyThreadCount() {
+        SimulationReport sequential = new BatchSimulator(3, new RandomActionPolicy(), 1, 7L).run(100);
+        SimulationReport parallel = new BatchSimulator(3, new RandomActionPolicy(), 4, 7L).run(100);
+
+        assertEquals(sequential.getWins(), parallel.getWins());
+        assertEquals(sequential.getTotalTurns(), parallel.getTotalTurns());
+        assertEquals(sequential.getLossReasons(), parallel.getLossReasons());
+    }
+}
@@ -0,0 +1,62 @@
+package modelTest;
+
+import model.Game;
+import view.gamePanel.GameBoardPanel;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Time spent in {@link GameBoardPanel#updateBoard} per call, for the first call and for repeated calls
+ * as the island floods, and the time to paint the whole board into an offscreen image after each update.
+ * Run on the event dispatch thread from the repository root, so the relative
+ * image paths resolve; works headless ({@code -Djava.awt.headless=true}).
+ * Run with {@code java modelTest.BoardRenderBenchmark [calls]}.
+ */
+public class BoardRenderBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int calls = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        SwingUtilities.invokeAndWait(() -> run(calls));
+    }
+
+    private static void run(int calls) {
+        Game game = new Game(1);
+        game.startGame(4);
+        GameBoardPanel panel = new GameBoardPanel();
+        panel.setSize(panel.getPreferredSize());
+        BufferedImage frame = new BufferedImage(panel.getWidth(), panel.getHeight(), BufferedImage.TYPE_INT_RGB);
+
+        long start = System.nanoTime();
+        panel.updateBoard(game.getBoard());
+        long first = System.nanoTime() - start;
+        paint(panel, frame);
+
+        // Flood a tile now and then so the states vary like in play
+        long total = 0;
+        long painting = 0;
+        for (int i = 0; i < calls; i++) {
+            if (i % 10 == 0) {
+                game.getBoard().floodTile(game.getBoard().getAllTiles().get(i / 10 % game.getBoard().getAllTiles().size()));
+            }
+            start = System.nanoTime();
+            panel.updateBoard(game.getBoard());
+            total += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            paint(panel, frame);
+            painting += System.nanoTime() - start;
+        }
+        System.out.printf("first updateBoard: %8.2f ms%n", first / 1e6);
+        System.out.printf("updateBoard avg:   %8.2f ms over %d calls%n", total / 1e6 / calls, calls);
+        System.out.printf("full paint avg:    %8.2f ms%n", painting / 1e6 / calls);
+    }
+
+    private static void paint(GameBoardPanel panel, BufferedImage frame) {
+        panel.validate();
+        Graphics2D g = frame.createGraphics();
+        panel.paint(g);
+        g.dispose();
+    }
+}
@@ -0,0 +1,87 @@
+package modelTest;
+
+import model.Board;
+import model.BoardState;
+import model.Player;
+import model.Tile;
+import model.enums.TileState;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class BoardStateTest {
+
+    private static long maskOf(List<Tile> tiles) {
+        long mask = 0;
+        for (Tile tile : tiles) {
+            mask |= BoardState.bit(BoardState.cell(tile.getRow(), tile.getCol()));
+        }
+        return mask;
+    }
+
+    @Test
+    public void neighbourMasksMatchBoardAdjacency() {
+        Board board = new Board();
+        long present = 0;
+        for (Tile tile : board.getAllTiles()) {
+            present |= BoardState.bit(BoardState.cell(tile.getRow(), tile.getCol()));
+        }
+        for (Tile tile : board.getAllTiles()) {
+            long self = BoardState.bit(BoardState.cell(tile.getRow(), tile.getCol()));
+            assertEquals(maskOf(board.getAdjacentTiles(tile)), BoardState.neighbours4(self) & present);
+            assertEquals(maskOf(board.getDiagonalAndOrthogonalTiles(tile)), BoardState.neighbours8(self) & present);
+        }
+    }
+
+    @Test
+    public void snapshotRoundTripsThroughBoard() {
+        Board board = new Board();
+        List<Tile> tiles = board.getAllTiles();
+        Player first = new Player(null, 1, tiles.get(0));
+        Player second = new Player(null, 2, tiles.get(5));
+        List<Player> players = List.of(first, second);
+        board.floodTile(tiles.get(3));
+        board.floodTile(tiles.get(7));
+        board.sinkTile(tiles.get(7));
+
+        BoardState saved = BoardState.from(board, players);
+        assertEquals(TileState.FLOODED, saved.getTileState(BoardState.cell(tiles.get(3).getRow(), tiles.get(3).getCol())));
+        assertEquals(Long.bitCount(saved.getTileMask()), tiles.size());
+
+        BoardState changed = saved.copy();
+        assertEquals(saved, changed);
+        assertEquals(saved.hashCode(), changed.hashCode());
+        changed.setTileState(BoardState.cell(tiles.get(3).getRow(), tiles.get(3).getCol()), TileState.SUNK);
+        changed.setPlayerCell(1, BoardState.cell(tiles.get(0).getRow(), tiles.get(0).getCol()));
+        assertNotEquals(saved, changed);
+
+        changed.applyTo(board, players);
+        assertEquals(changed, BoardState.from(board, players));
+        assertEquals(2, board.getSunkTiles().size());
+        assertSame(tiles.get(0), second.getCurrentTile());
+        assertEquals(2, tiles.get(0).getPlayersOnTile().size());
+
+        saved.applyTo(board, players);
+        assertEquals(saved, BoardState.from(board, players));
+        assertEquals(List.of(tiles.get(3)), board.getFloodedTiles());
+        assertEquals(List.of(first), tiles.get(0).getPlayersOnTile());
+    }
+
+    @Test
+    public void distinctStatesHashApart() {
+        Board board = new Board();
+        Set<Integer> hashes = new HashSet<>();
+        BoardState state = BoardState.from(board, List.of());
+        for (Tile tile : board.getAllTiles()) {
+            state.setTileState(BoardState.cell(tile.getRow(), tile.getCol()), TileState.FLOODED);
+            hashes.add(state.hashCode());
+        }
+        assertEquals(board.getAllTiles().size(), hashes.size());
+    }
+}
@@ -1,10 +1,19 @@
 package modelTest;
 
 import model.Board;
+import model.Game;
+import model.Player;
 import model.Tile;
+import model.enums.Role;
+import model.enums.TileState;
+import model.enums.TileType;
+import model.enums.TreasureType;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class BoardTest {
 
     private static Board board;
@@ -20,6 +29,151 @@ public class BoardTest {
         assert tile == null;
     }
 
+    @Test
+    public void testPrecomputedNeighbours() {
+        Tile top = board.getTile(0, 2);
+        assert board.getAdjacentTiles(top).size() == 2;
+        assert board.getAdjacentTiles(top).contains(board.getTile(1, 2));
+        assert board.getDiagonalAndOrthogonalTiles(top).size() == 4;
+        assert board.getAdjacentTiles(top) == board.getAdjacentTiles(top);
+        assert board.getAdjacentTiles(null).isEmpty();
+    }
+
+    @Test
+    public void testRoleReachability() {
+        Board island = new Board();
+        Tile start = island.getTile(2, 0);
+        island.floodTile(island.getTile(2, 1));
+        island.sinkTile(island.getTile(2, 1));
+        island.floodTile(island.getTile(2, 2));
+
+        Player player = new Player(null, 1, start);
+        player.setRole(Role.MESSENGER);
+        assert island.getMovableTilesForPlayer(player).equals(List.of(island.getTile(3, 0)));
+
+        player.setRole(Role.DIVER);
+        List<Tile> diverTiles = island.getMovableTilesForPlayer(player);
+        assert diverTiles.contains(island.getTile(2, 3));
+        assert diverTiles.contains(island.getTile(2, 2));
+        assert !diverTiles.contains(island.getTile(2, 1));
+        assert !diverTiles.contains(start);
+
+        player.setRole(Role.PILOT);
+        assert Long.bitCount(island.getEscapeMask(player)) == island.getAllNavigableTiles().size() - 1;
+
+        island.floodTile(island.getTile(3, 0));
+        island.sinkTile(island.getTile(3, 0));
+        player.setRole(Role.MESSENGER);
+        assert island.getEscapeMask(player) == 0;
+        player.setRole(Role.DIVER);
+        assert island.getEscapeMask(player) != 0;
+    }
+
+    @Test
+    public void testOccupancyBits() {
+        Board island = new Board();
+        Tile start = island.getTile(2, 0);
+        Tile next = island.getTile(3, 0);
+        Player first = new Player(null, 1, start);
+        Player third = new Player(null, 3, start);
+        assert island.getOccupants(start) == 0b101;
+        assert start.getPlayersOnTile().equals(List.of(first, third));
+        assert start.getBoard() == island;
+
+        first.flyTo(next);
+        assert island.getOccupants(start) == 0b100;
+        assert island.getOccupants(next) == 0b001;
+        assert next.getPlayersOnTile().equals(List.of(first));
+        assert island.getPlayersOn(island.getTile(0, 2)).isEmpty();
+    }
+
+    @Test
+    public void testTileStateIsABoardView() {
+        Game game = new Game(3);
+        Board island = game.getBoard();
+        Tile tile = island.getTile(2, 2);
+        island.floodTile(tile);
+        assert tile.getState() == TileState.FLOODED && tile.isFlooded() && !tile.isSunk();
+        island.sinkTile(tile);
+        assert tile.getState() == TileState.SUNK && tile.isSunk() && !tile.isFlooded() && !tile.isNavigable();
+        island.dryTile(tile);
+        assert tile.isSunk();
+
+        Board copy = game.copy(1).getBoard();
+        assert copy.getSunkMask() == island.getSunkMask() && copy.getFloodedMask() == island.getFloodedMask();
+        assert copy.getTile(2, 2).isSunk() && copy.getSunkTiles().equals(List.of(copy.getTile(2, 2)));
+        assert copy.getZobristHash() == island.getZobristHash();
+        assert Tile.createTileForType(TileType.WATCHTOWER, 0, 0).getState() == TileState.NORMAL;
+    }
+
+    @Test
+    public void testCachedTileLists() {
+        Board island = new Board();
+        assert island.getAllTiles() == island.getAllTiles();
+        assert island.getTreasureTiles(TreasureType.WIND) == island.getTreasureTiles(TreasureType.WIND);
+        assert island.getTreasureTiles(TreasureType.WIND).size() == 2;
+        try {
+            island.getAllTiles().clear();
+            assert false;
+        } catch (UnsupportedOperationException expected) {
+            // Shared list is read-only
+        }
+
+        island.floodTile(island.getTile(3, 3));
+        island.floodTile(island.getTile(1, 1));
+        List<Tile> visited = new ArrayList<>();
+        island.forEachFloodedTile(visited::add);
+        assert visited.equals(island.getFloodedTiles());
+        assert visited.equals(List.of(island.getTile(1, 1), island.getTile(3, 3)));
+    }
+
+    @Test
+    public void testVersionedReachabilityMemo() {
+        Board island = new Board();
+        Player player = new Player(null, 1, island.getTile(2, 2));
+        player.setRole(Role.ENGINEER);
+        long version = island.getVersion();
+        List<Tile> moves = island.getMovableTilesForPlayer(player);
+        assert island.getMovableTilesForPlayer(player) == moves;
+        assert island.getShoreUpTilesForPlayer(player).isEmpty();
+
+        island.floodTile(island.getTile(2, 3));
+        assert island.getVersion() > version;
+        assert island.getShoreUpTilesForPlayer(player).equals(List.of(island.getTile(2, 3)));
+        island.sinkTile(island.getTile(2, 3));
+        assert !island.getMovableTilesForPlayer(player).contains(island.getTile(2, 3));
+        assert island.getShoreUpTilesForPlayer(player).isEmpty();
+
+        version = island.getVersion();
+        player.flyTo(island.getTile(3, 3));
+        assert island.getVersion() > version;
+        assert island.getMovableTilesForPlayer(player).contains(island.getTile(3, 4));
+    }
+
+    @Test
+    public void testIncrementalLoseCounters() {
+        Board island = new Board();
+        List<Tile> earthTiles = island.getTreasureTiles(TreasureType.EARTH);
+        assert !earthTiles.isEmpty();
+        island.clearEscapeCheckDirty();
+        for (Tile tile : earthTiles) {
+            assert !island.isAllTreasureTilesSunk(TreasureType.EARTH);
+            island.floodTile(tile);
+            assert !island.isEscapeCheckDirty();
+            island.sinkTile(tile);
+            assert island.isEscapeCheckDirty();
+            island.clearEscapeCheckDirty();
+        }
+        assert island.isAllTreasureTilesSunk(TreasureType.EARTH);
+        assert !island.isTreasureAvailable(TreasureType.EARTH) && island.isTreasureAvailable(TreasureType.FIRE);
+
+        Tile helipad = island.getTileByType(TileType.FOOLS_LANDING);
+        assert !island.isHelipadSunk();
+        island.floodTile(helipad);
+        island.sinkTile(helipad);
+        assert island.isHelipadSunk();
+    }
+
     @Test
     public void printBoardTest() {
         board.floodTile(board.getTile(3, 3));
@@ -0,0 +1,67 @@
+package modelTest;
+
+import model.Game;
+import model.Player;
+import view.gamePanel.CardPanel;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Time spent in {@link CardPanel#updatePlayerHand} per call as the shown hand switches between the
+ * players, including laying out and painting the panel into an offscreen image.
+ * Runs on the event dispatch thread and works headless ({@code -Djava.awt.headless=true}).
+ * Run from the repository root or with the resources on the classpath:
+ * {@code java modelTest.CardHandBenchmark [calls]}.
+ */
+public class CardHandBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int calls = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        SwingUtilities.invokeAndWait(() -> run(calls));
+    }
+
+    private static void run(int calls) {
+        Game game = new Game(1);
+        game.startGame(4);
+        CardPanel panel = new CardPanel();
+        panel.setSize(800, 150);
+        BufferedImage frame = new BufferedImage(panel.getWidth(), panel.getHeight(), BufferedImage.TYPE_INT_RGB);
+
+        long start = System.nanoTime();
+        panel.updatePlayerHand(game.getPlayers().get(0).getHand());
+        paint(panel, frame);
+        long first = System.nanoTime() - start;
+
+        long total = 0;
+        for (int i = 0; i < calls; i++) {
+            Player player = game.getPlayers().get(i % game.getPlayers().size());
+            start = System.nanoTime();
+            panel.updatePlayerHand(player.getHand());
+            paint(panel, frame);
+            total += System.nanoTime() - start;
+        }
+        System.out.printf("first update: %8.2f ms%n", first / 1e6);
+        System.out.printf("update avg:   %8.2f ms over %d calls%n", total / 1e6 / calls, calls);
+    }
+
+    private static void paint(CardPanel panel, BufferedImage frame) {
+        layout(panel);
+        Graphics2D g = frame.createGraphics();
+        panel.paint(g);
+        g.dispose();
+    }
+
+    /**
+     * Lay out the whole tree; {@link Container#validate} does nothing without a native peer.
+     */
+    private static void layout(Container container) {
+        container.doLayout();
+        for (Component child : container.getComponents()) {
+            if (child instanceof Container) {
+                layout((Container) child);
+            }
+        }
+    }
+}
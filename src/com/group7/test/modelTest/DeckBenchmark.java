@@ -0,0 +1,150 @@
+package modelTest;
+
+import model.Deck;
+import model.card.Card;
+import model.card.FloodCard;
+import model.card.HelicopterLiftCard;
+import model.card.SandbagCard;
+import model.card.TreasureCard;
+import model.card.WaterRiseCard;
+import model.enums.TileType;
+import model.enums.TreasureType;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+
+/**
+ * Micro-benchmark of the array-backed {@link Deck} against the previous LinkedList deck.
+ * One operation = shuffle, draw every card into the discard pile, reshuffle the discard pile on top.
+ * Run with {@code java modelTest.DeckBenchmark}.
+ */
+public class DeckBenchmark {
+    private static final int WARMUP_ROUNDS = 200_000;
+    private static final int MEASURED_ROUNDS = 1_000_000;
+
+    public static void main(String[] args) {
+        List<Card> treasureCards = new ArrayList<>();
+        for (TreasureType type : TreasureType.values()) {
+            if (type == TreasureType.NONE) continue;
+            for (int i = 0; i < 5; i++) {
+                treasureCards.add(new TreasureCard(type.name() + " Card", "", type));
+            }
+        }
+        for (int i = 0; i < 3; i++) treasureCards.add(new HelicopterLiftCard());
+        for (int i = 0; i < 2; i++) treasureCards.add(new SandbagCard());
+        for (int i = 0; i < 3; i++) treasureCards.add(new WaterRiseCard());
+
+        List<Card> floodCards = new ArrayList<>();
+        for (TileType type : TileType.values()) {
+            if (type != TileType.NONE && floodCards.size() < 24) {
+                floodCards.add(new FloodCard(type, type.name()));
+            }
+        }
+
+        run("treasure deck (" + treasureCards.size() + " cards)", treasureCards);
+        run("flood deck (" + floodCards.size() + " cards)", floodCards);
+    }
+
+    private static void run(String label, List<Card> contents) {
+        Deck<Card> deck = new Deck<>();
+        LinkedListDeck<Card> baseline = new LinkedListDeck<>();
+        for (Card card : contents) {
+            deck.addCard(card);
+            baseline.addCard(card);
+        }
+
+        measure(deck, contents.size(), WARMUP_ROUNDS);
+        measureBaseline(baseline, contents.size(), WARMUP_ROUNDS);
+
+        long allocated = allocatedBytes();
+        long start = System.nanoTime();
+        measure(deck, contents.size(), MEASURED_ROUNDS);
+        long arrayNanos = System.nanoTime() - start;
+        long arrayBytes = allocatedBytes() - allocated;
+
+        allocated = allocatedBytes();
+        start = System.nanoTime();
+        measureBaseline(baseline, contents.size(), MEASURED_ROUNDS);
+        long linkedNanos = System.nanoTime() - start;
+        long linkedBytes = allocatedBytes() - allocated;
+
+        System.out.printf("%s%n", label);
+        System.out.printf("  array-backed Deck : %7.1f ns/op %8.1f B/op%n",
+                (double) arrayNanos / MEASURED_ROUNDS, (double) arrayBytes / MEASURED_ROUNDS);
+        System.out.printf("  LinkedList Deck   : %7.1f ns/op %8.1f B/op%n",
+                (double) linkedNanos / MEASURED_ROUNDS, (double) linkedBytes / MEASURED_ROUNDS);
+    }
+
+    private static void measure(Deck<Card> deck, int count, int rounds) {
+        for (int r = 0; r < rounds; r++) {
+            deck.shuffle();
+            for (int i = 0; i < count; i++) {
+                deck.discard(deck.drawCard());
+            }
+            deck.reshuffleDiscardPile();
+        }
+    }
+
+    private static void measureBaseline(LinkedListDeck<Card> deck, int count, int rounds) {
+        for (int r = 0; r < rounds; r++) {
+            deck.shuffle();
+            for (int i = 0; i < count; i++) {
+                deck.discard(deck.drawCard());
+            }
+            deck.reshuffleDiscardPile();
+        }
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * The previous LinkedList-based implementation, kept here as the baseline.
+     */
+    private static class LinkedListDeck<T extends Card> {
+        private final Queue<T> cards = new LinkedList<>();
+        private final List<T> discardPile = new ArrayList<>();
+        private final Random random = new Random();
+
+        void addCard(T card) {
+            cards.offer(card);
+        }
+
+        T drawCard() {
+            if (cards.isEmpty()) {
+                reshuffleDiscardPile();
+                if (cards.isEmpty()) {
+                    return null;
+                }
+            }
+            return cards.poll();
+        }
+
+        void discard(T card) {
+            discardPile.add(card);
+        }
+
+        void shuffle() {
+            List<T> tempList = new ArrayList<>(cards);
+            Collections.shuffle(tempList, random);
+            cards.clear();
+            cards.addAll(tempList);
+        }
+
+        void reshuffleDiscardPile() {
+            if (discardPile.isEmpty()) {
+                return;
+            }
+            Collections.shuffle(discardPile, random);
+            cards.addAll(discardPile);
+            discardPile.clear();
+        }
+    }
+}
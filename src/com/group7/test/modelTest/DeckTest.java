@@ -0,0 +1,118 @@
+package modelTest;
+
+import model.Deck;
+import model.card.FloodCard;
+import model.enums.TileType;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DeckTest {
+
+    private static Deck<FloodCard> newFloodDeck(FloodCard[] cards) {
+        Deck<FloodCard> deck = new Deck<>(new SplittableRandom(1));
+        for (FloodCard card : cards) {
+            deck.addCard(card);
+        }
+        return deck;
+    }
+
+    private static FloodCard[] floodCards(int count) {
+        FloodCard[] cards = new FloodCard[count];
+        TileType[] types = TileType.values();
+        for (int i = 0; i < count; i++) {
+            TileType type = types[1 + i % (types.length - 1)];
+            cards[i] = new FloodCard(type, type.name());
+        }
+        return cards;
+    }
+
+    @Test
+    public void drawsInInsertionOrderUntilEmpty() {
+        FloodCard[] cards = floodCards(40);
+        Deck<FloodCard> deck = newFloodDeck(cards);
+        for (FloodCard card : cards) {
+            assertSame(card, deck.drawCard());
+        }
+        assertNull(deck.drawCard());
+    }
+
+    @Test
+    public void reshuffledDiscardsGoOnTopOfTheDeck() {
+        FloodCard[] cards = floodCards(24);
+        Deck<FloodCard> deck = newFloodDeck(cards);
+        Set<FloodCard> discarded = new HashSet<>();
+        for (int i = 0; i < 6; i++) {
+            FloodCard card = deck.drawCard();
+            deck.discard(card);
+            discarded.add(card);
+        }
+
+        deck.reshuffleDiscardPile();
+
+        assertEquals(0, deck.getDiscardPileSize());
+        assertEquals(24, deck.getRemainingCards());
+        Set<FloodCard> top = new HashSet<>();
+        for (int i = 0; i < 6; i++) {
+            top.add(deck.drawCard());
+        }
+        assertEquals(discarded, top);
+        assertSame(cards[6], deck.drawCard());
+    }
+
+    @Test
+    public void shuffleKeepsEveryCard() {
+        FloodCard[] cards = floodCards(28);
+        Deck<FloodCard> deck = newFloodDeck(cards);
+        deck.drawCard();
+        deck.addCard(cards[0]);
+        deck.shuffle();
+
+        Set<FloodCard> drawn = new HashSet<>();
+        FloodCard card;
+        while ((card = deck.drawCard()) != null) {
+            drawn.add(card);
+        }
+        assertEquals(Set.of(cards), drawn);
+    }
+
+    @Test
+    public void shuffleUnseenKeepsReshuffledCardsOnTop() {
+        FloodCard[] cards = floodCards(24);
+        Deck<FloodCard> deck = newFloodDeck(cards);
+        Set<FloodCard> discarded = new HashSet<>();
+        for (int i = 0; i < 5; i++) {
+            FloodCard card = deck.drawCard();
+            deck.discard(card);
+            discarded.add(card);
+        }
+        deck.reshuffleDiscardPile();
+        deck.drawCard();
+        assertEquals(4, deck.getReshuffledCards());
+
+        deck.shuffleUnseen();
+        assertEquals(4, deck.getReshuffledCards());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(discarded.contains(deck.drawCard()));
+        }
+        assertEquals(0, deck.getReshuffledCards());
+        Set<FloodCard> rest = new HashSet<>();
+        for (int i = 0; i < 19; i++) {
+            rest.add(deck.drawCard());
+        }
+        assertEquals(Set.of(cards).size() - discarded.size(), rest.size());
+        assertFalse(rest.removeAll(discarded));
+
+        deck.addCard(cards[0]);
+        deck.shuffle();
+        assertEquals(0, deck.getReshuffledCards());
+    }
+}
@@ -0,0 +1,86 @@
+package modelTest;
+
+import model.BoardState;
+import model.Game;
+import model.Journal;
+import model.Player;
+import model.sim.RandomActionPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JournalTest {
+
+    /**
+     * Everything the journal restores, in comparable form.
+     */
+    private static List<Object> snapshot(Game game) {
+        List<Object> state = new ArrayList<>();
+        state.add(BoardState.from(game.getBoard(), game.getPlayers()));
+        state.add(game.getBoard().getFloodedTiles());
+        state.add(game.getBoard().getSunkTiles());
+        for (Player player : game.getPlayers()) {
+            state.add(new ArrayList<>(player.getHand()));
+            state.add(player.getRemainingActions());
+            state.add(new ArrayList<>(player.getCollectedTreasures()));
+        }
+        state.add(game.getTreasureDeck().getRemainingCards());
+        state.add(new ArrayList<>(game.getTreasureDeck().getDiscardPile()));
+        state.add(game.getFloodDeck().getRemainingCards());
+        state.add(new ArrayList<>(game.getFloodDeck().getDiscardPile()));
+        state.add(game.getWaterLevel().getCurrentLevel());
+        return state;
+    }
+
+    @Test
+    public void rollbackAndRedoRestoreTurns() {
+        Game game = new Game(7);
+        game.startGame(4);
+        Journal journal = new Journal(game);
+        List<Object> before = snapshot(game);
+        int savepoint = journal.savepoint();
+
+        RandomActionPolicy policy = new RandomActionPolicy();
+        SplittableRandom random = new SplittableRandom(3);
+        for (int turn = 0; turn < 6 && !game.isGameOver(); turn++) {
+            policy.playActions(game, game.getCurrentPlayer(), random);
+            game.getTurnManager().nextPhase();
+        }
+        game.increaseWaterLevel();
+        List<Object> after = snapshot(game);
+        assertNotEquals(before, after);
+
+        int end = journal.savepoint();
+        journal.rollback(savepoint);
+        assertEquals(before, snapshot(game));
+        assertTrue(journal.canRedo());
+
+        journal.redo(end);
+        assertEquals(after, snapshot(game));
+        assertFalse(journal.canRedo());
+    }
+
+    @Test
+    public void newChangeDropsRedo() {
+        Game game = new Game(11);
+        game.startGame(2);
+        Journal journal = new Journal(game);
+        int level = game.getWaterLevel().getCurrentLevel();
+        int savepoint = journal.savepoint();
+        game.increaseWaterLevel();
+        journal.rollback(savepoint);
+        assertEquals(level, game.getWaterLevel().getCurrentLevel());
+
+        game.getTreasureDeck().drawCard();
+        assertFalse(journal.canRedo());
+        journal.rollback(savepoint);
+        assertEquals(0, journal.size());
+    }
+}
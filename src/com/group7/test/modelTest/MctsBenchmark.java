@@ -0,0 +1,57 @@
+package modelTest;
+
+import model.Game;
+import model.ai.MctsBot;
+
+/**
+ * Playout throughput of {@link MctsBot} in both parallel modes, for 1 thread and for the given thread count.
+ * Each measurement searches the opening decision of fresh 4-player games and reports playouts per second
+ * against a target, exiting with status 1 if any configuration falls short.
+ * Run with {@code java modelTest.MctsBenchmark [threads] [playouts per decision] [target playouts/s]}.
+ */
+public class MctsBenchmark {
+    private static final int WARMUP_DECISIONS = 5;
+    private static final int MEASURED_DECISIONS = 10;
+
+    public static void main(String[] args) {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        int playouts = args.length > 1 ? Integer.parseInt(args[1]) : 5_000;
+        double target = args.length > 2 ? Double.parseDouble(args[2]) : 5_000;
+
+        boolean met = true;
+        for (MctsBot.Parallelism parallelism : MctsBot.Parallelism.values()) {
+            for (int count : threads > 1 ? new int[]{1, threads} : new int[]{1}) {
+                double rate = run(parallelism, count, playouts);
+                System.out.printf("%-4s %2d thread(s): %9.0f playouts/s%n", parallelism, count, rate);
+                met &= rate >= target;
+            }
+        }
+        System.out.printf("target %.0f playouts/s: %s%n", target, met ? "met" : "MISSED");
+        if (!met) {
+            System.exit(1);
+        }
+    }
+
+    private static double run(MctsBot.Parallelism parallelism, int threads, int playouts) {
+        try (MctsBot bot = new MctsBot(parallelism, threads)) {
+            bot.setPlayouts(playouts);
+            for (int i = 0; i < WARMUP_DECISIONS; i++) {
+                decide(bot, i);
+            }
+            long total = 0;
+            long nanos = 0;
+            for (int i = 0; i < MEASURED_DECISIONS; i++) {
+                decide(bot, WARMUP_DECISIONS + i);
+                total += bot.getLastPlayouts();
+                nanos += bot.getLastElapsedNanos();
+            }
+            return total * 1e9 / nanos;
+        }
+    }
+
+    private static void decide(MctsBot bot, long seed) {
+        Game game = new Game(seed);
+        game.startGame(4);
+        bot.chooseAction(game, seed);
+    }
+}
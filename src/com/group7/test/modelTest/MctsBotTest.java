@@ -0,0 +1,107 @@
+package modelTest;
+
+import model.Action;
+import model.ActionBuffer;
+import model.BoardState;
+import model.Game;
+import model.Player;
+import model.ai.MctsBot;
+import model.card.HandCard;
+import model.card.TreasureCard;
+import model.enums.TreasureType;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MctsBotTest {
+
+    @Test
+    public void copyIsEqualButIndependent() {
+        Game game = new Game(5);
+        game.startGame(4);
+        Game copy = game.copy(1);
+        assertEquals(game.getStateHash(), copy.getStateHash());
+        assertEquals(BoardState.from(game.getBoard(), game.getPlayers()), BoardState.from(copy.getBoard(), copy.getPlayers()));
+
+        long hash = game.getStateHash();
+        ActionBuffer actions = new ActionBuffer();
+        copy.getTurnManager().generateActions(copy.getCurrentPlayer(), actions);
+        assertTrue(copy.getTurnManager().applyAction(actions.get(0)));
+        copy.getTurnManager().nextPhase();
+        assertEquals(hash, game.getStateHash());
+        assertNotEquals(hash, copy.getStateHash());
+    }
+
+    @Test
+    public void bothModesPickALegalActionWithinTheBudget() {
+        for (MctsBot.Parallelism parallelism : MctsBot.Parallelism.values()) {
+            Game game = new Game(9);
+            game.startGame(4);
+            long hash = game.getStateHash();
+            try (MctsBot bot = new MctsBot(parallelism, 2)) {
+                bot.setPlayouts(300);
+                int action = bot.chooseAction(game, 17);
+
+                assertEquals(300, bot.getLastPlayouts());
+                assertEquals(hash, game.getStateHash());
+                ActionBuffer actions = new ActionBuffer();
+                game.getTurnManager().generateActions(game.getCurrentPlayer(), actions);
+                boolean legal = false;
+                for (int i = 0; i < actions.size(); i++) {
+                    legal |= actions.get(i) == action;
+                }
+                assertTrue(legal, Action.toString(action));
+            }
+        }
+    }
+
+    @Test
+    public void transposedPositionsShareTheirRollouts() {
+        Game game = new Game(9);
+        game.startGame(4);
+        try (MctsBot bot = new MctsBot(MctsBot.Parallelism.ROOT, 1)) {
+            bot.setPlayouts(500);
+            bot.chooseAction(game, 3);
+            // Two moves or a move and a shore-up in either order reach the same position
+            assertTrue(bot.getLastTranspositionHits() > 0);
+        }
+    }
+
+    @Test
+    public void deadlineStopsTheSearch() {
+        Game game = new Game(3);
+        game.startGame(2);
+        try (MctsBot bot = new MctsBot(MctsBot.Parallelism.TREE, 2)) {
+            bot.setPlayouts(Integer.MAX_VALUE);
+            bot.setTimeLimitMillis(50);
+            bot.chooseAction(game, 1);
+            assertTrue(bot.getLastPlayouts() > 0);
+            assertTrue(bot.getLastElapsedNanos() < 2_000_000_000L);
+        }
+    }
+
+    @Test
+    public void playsATurnAndDiscardsDownToTheLimit() {
+        Game game = new Game(21);
+        game.startGame(3);
+        Player player = game.getCurrentPlayer();
+        try (MctsBot bot = new MctsBot(MctsBot.Parallelism.ROOT, 2)) {
+            bot.setPlayouts(60);
+            bot.playActions(game, player, new SplittableRandom(4));
+            assertTrue(player.getRemainingActions() == 0 || game.isGameOver());
+
+            while (!player.handExceedsLimit()) {
+                player.addCardToHand(new TreasureCard("EARTH Card", "", TreasureType.EARTH));
+            }
+            HandCard discard = bot.chooseDiscard(game, player, 8);
+            assertTrue(player.getHand().contains(discard));
+            bot.discardExcess(game, player, 8);
+            assertFalse(player.handExceedsLimit());
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package modelTest;
+
+import model.Game;
+import model.Player;
+import model.Tile;
+import model.card.FloodCard;
+import model.card.HandCard;
+import model.card.HelicopterLiftCard;
+import model.card.TreasureCard;
+import model.enums.Role;
+import model.enums.TreasureType;
+import model.sim.HeuristicAgent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PlayerAgentTest {
+
+    /**
+     * Takes the first option of every prompt.
+     */
+    private static class FirstChoiceAgent extends HeuristicAgent {
+        private int prompts;
+        private List<Tile> offered;
+
+        @Override
+        public HandCard chooseDiscard(Player player) {
+            prompts++;
+            return (HandCard) player.getHand().get(0);
+        }
+
+        @Override
+        public Lift chooseHelicopterLift(Player player, List<Tile> destinations) {
+            prompts++;
+            Tile destination = destinations.get(0) == player.getCurrentTile() ? destinations.get(1) : destinations.get(0);
+            return new Lift(List.of(player), destination);
+        }
+
+        @Override
+        public Tile chooseSecondShoreUp(Player engineer, List<Tile> floodedTiles) {
+            prompts++;
+            offered = floodedTiles;
+            return floodedTiles.get(0);
+        }
+
+        @Override
+        public Player chooseNavigatorTarget(Player navigator, List<Player> others) {
+            prompts++;
+            return others.get(0);
+        }
+
+        @Override
+        public Tile chooseNavigatorStep(Player navigator, Player target, List<Tile> options, int step) {
+            prompts++;
+            return options.get(0);
+        }
+    }
+
+    @Test
+    public void agentDiscardsSynchronously() {
+        Game game = new Game(4);
+        game.startGame(2);
+        FirstChoiceAgent agent = new FirstChoiceAgent();
+        game.setDefaultAgent(agent);
+        Player player = game.getCurrentPlayer();
+        // Plain treasure cards only, so every answer is a discard rather than a played special card
+        while (!player.getHand().isEmpty()) {
+            player.discardCard(player.getHand().get(0));
+        }
+        while (player.getHand().size() < 7) {
+            player.addCardToHand(new TreasureCard("FIRE Card", "", TreasureType.FIRE));
+        }
+        int discarded = game.getTreasureDeck().getDiscardPileSize();
+
+        game.notifyPlayerMustDiscard(player);
+        assertFalse(player.handExceedsLimit());
+        assertEquals(2, agent.prompts);
+        assertEquals(discarded + 2, game.getTreasureDeck().getDiscardPileSize());
+    }
+
+    @Test
+    public void helicopterLiftAsksThePlayersOwnAgent() {
+        Game game = new Game(6);
+        game.startGame(3);
+        Player player = game.getCurrentPlayer();
+        FirstChoiceAgent agent = new FirstChoiceAgent();
+        player.setAgent(agent);
+        HelicopterLiftCard card = new HelicopterLiftCard();
+        player.addCardToHand(card);
+        Tile start = player.getCurrentTile();
+
+        assertTrue(card.use(player));
+        assertEquals(1, agent.prompts);
+        assertNotEquals(start, player.getCurrentTile());
+        assertFalse(player.getHand().contains(card));
+        assertTrue(game.getTreasureDeck().getDiscardPile().contains(card));
+    }
+
+    @Test
+    public void navigatorMovesAnotherPlayerWithoutTheirActions() {
+        Game game = new Game(8);
+        game.startGame(2);
+        FirstChoiceAgent agent = new FirstChoiceAgent();
+        game.setDefaultAgent(agent);
+        Player navigator = game.getPlayers().get(0);
+        Player target = game.getPlayers().get(1);
+        Tile start = target.getCurrentTile();
+        assertEquals(0, target.getRemainingActions());
+
+        Role.NAVIGATOR.useSpecialAbility(navigator, null);
+        assertEquals(3, agent.prompts);
+        assertNotEquals(start, target.getCurrentTile());
+    }
+
+    @Test
+    public void engineerIsOfferedOnlyTilesInReach() {
+        Game game = new Game(3);
+        game.startGame(2);
+        FirstChoiceAgent agent = new FirstChoiceAgent();
+        game.setDefaultAgent(agent);
+        Player engineer = game.getCurrentPlayer();
+        engineer.setRole(Role.ENGINEER);
+        for (Tile tile : game.getBoard().getAllTiles()) {
+            if (!tile.isFlooded() && !tile.isSunk()) {
+                game.getBoard().floodTile(tile);
+            }
+        }
+        Tile start = engineer.getCurrentTile();
+        List<Tile> reach = game.getBoard().getShoreUpTilesForPlayer(engineer);
+        int flooded = game.getBoard().getFloodedTiles().size();
+        assertTrue(reach.size() < flooded);
+
+        Role.ENGINEER.useSpecialAbility(engineer, start);
+        assertEquals(1, agent.prompts);
+        assertFalse(agent.offered.contains(start));
+        assertTrue(reach.containsAll(agent.offered));
+        assertEquals(reach.size() - 1, agent.offered.size());
+        assertEquals(flooded - 2, game.getBoard().getFloodedTiles().size());
+    }
+
+    @Test
+    public void sinkingAsksWhereToSwim() {
+        Game game = new Game(2);
+        game.startGame(2);
+        Player player = game.getPlayers().get(1);
+        Tile start = player.getCurrentTile();
+        List<Tile> escapes = game.getBoard().getEscapeTilesForPlayer(player);
+        assertTrue(escapes.size() > 1);
+        List<List<Tile>> offered = new ArrayList<>();
+        player.setAgent(new HeuristicAgent() {
+            @Override
+            public Tile chooseEscapeTile(Player swimmer, List<Tile> escapeTiles) {
+                offered.add(escapeTiles);
+                return escapeTiles.get(escapeTiles.size() - 1);
+            }
+        });
+
+        // The start tile's flood card is the only one left, so the next flood draw sinks it
+        if (!start.isFlooded()) {
+            game.getBoard().floodTile(start);
+        }
+        while (game.getFloodDeck().drawCard() != null) {
+        }
+        game.getFloodDeck().addCard(new FloodCard(start.getType(), start.getType().name()));
+        game.getTurnManager().nextPhase();
+
+        assertTrue(start.isSunk());
+        assertEquals(List.of(escapes), offered);
+        assertEquals(escapes.get(escapes.size() - 1), player.getCurrentTile());
+    }
+}
@@ -0,0 +1,81 @@
+package modelTest;
+
+import model.Game;
+import model.Player;
+import model.card.Card;
+import model.card.HandCard;
+import model.card.HelicopterLiftCard;
+import model.card.SandbagCard;
+import model.card.TreasureCard;
+import model.enums.TreasureType;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PlayerTest {
+
+    @Test
+    public void cardCountsFollowTheHand() {
+        Game game = new Game(13);
+        game.startGame(2);
+        Player player = game.getPlayers().get(0);
+        Player other = game.getPlayers().get(1);
+        SplittableRandom random = new SplittableRandom(5);
+
+        for (int step = 0; step < 2_000; step++) {
+            int choice = random.nextInt(4);
+            if (choice == 0 || player.getHand().isEmpty()) {
+                HandCard card = game.drawTreasureCard();
+                if (card != null) {
+                    player.addCardToHand(card);
+                }
+            } else if (choice == 1) {
+                Card card = player.getHand().get(random.nextInt(player.getHand().size()));
+                game.getTreasureDeck().discard((HandCard) card);
+                player.discardCard(card);
+            } else if (choice == 2 && player.getHand().get(0) instanceof TreasureCard) {
+                player.giveCardToPlayer(other, player.getHand().get(0));
+            } else {
+                player.collectTreasure();
+            }
+            assertCounts(player);
+            assertCounts(other);
+        }
+    }
+
+    private static void assertCounts(Player player) {
+        int treasures = 0;
+        int specials = 0;
+        for (TreasureType type : TreasureType.values()) {
+            int count = 0;
+            for (Card card : player.getHand()) {
+                if (card instanceof TreasureCard && ((TreasureCard) card).getTreasureType() == type) {
+                    count++;
+                }
+            }
+            assertEquals(count, player.getTreasureCardCount(type));
+            treasures += count;
+        }
+        for (Card card : player.getHand()) {
+            if (card instanceof HelicopterLiftCard || card instanceof SandbagCard) {
+                specials++;
+            }
+        }
+        assertEquals(treasures, player.getTreasureCardCount());
+        assertEquals(specials, player.getSpecialCardCount());
+    }
+
+    @Test
+    public void handIsReadOnly() {
+        Game game = new Game(13);
+        game.startGame(2);
+        Player player = game.getPlayers().get(0);
+        int size = player.getHand().size();
+
+        assertThrows(UnsupportedOperationException.class, () -> player.getHand().add(new SandbagCard()));
+        assertEquals(size, player.getHand().size());
+    }
+}
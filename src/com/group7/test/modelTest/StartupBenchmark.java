@@ -0,0 +1,54 @@
+package modelTest;
+
+import model.enums.TileType;
+import util.AssetManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Time to decode the startup artwork (cover, tiles, rule pages) on one thread, as the views used to load
+ * it, and on one thread per core as {@code main} now preloads it. Each run uses a fresh {@link AssetManager}
+ * so nothing is cached. Run from the repository root or with the resources on the classpath:
+ * {@code java modelTest.StartupBenchmark [runs]}.
+ */
+public class StartupBenchmark {
+
+    public static void main(String[] args) {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 3;
+        List<String> names = names();
+        // Warm up the decoders so the first timed row is not paying for class loading and JIT
+        new AssetManager(Runnable::run).preload(names);
+        for (int threads : new int[]{1, Runtime.getRuntime().availableProcessors()}) {
+            long total = 0;
+            for (int run = 0; run < runs; run++) {
+                ExecutorService executor = Executors.newFixedThreadPool(threads);
+                AssetManager assets = new AssetManager(executor);
+                long start = System.nanoTime();
+                assets.preload(names);
+                for (String name : names) {
+                    assets.load(name).join();
+                }
+                total += System.nanoTime() - start;
+                executor.shutdown();
+            }
+            System.out.printf("%2d thread(s): %8.2f ms for %d images%n", threads, total / 1e6 / runs, names.size());
+        }
+    }
+
+    private static List<String> names() {
+        List<String> names = new ArrayList<>();
+        names.add("TitleScreen.png");
+        for (TileType type : TileType.values()) {
+            if (type != TileType.NONE) {
+                names.add("Tiles/" + type.getImagePath());
+            }
+        }
+        for (int page = 1; AssetManager.exists("Rules/rule" + page + ".png"); page++) {
+            names.add("Rules/rule" + page + ".png");
+        }
+        return names;
+    }
+}
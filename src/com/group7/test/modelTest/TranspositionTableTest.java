@@ -0,0 +1,67 @@
+package modelTest;
+
+import model.ai.TranspositionTable;
+import model.ai.TranspositionTable.ReplacementPolicy;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TranspositionTableTest {
+
+    @Test
+    public void storesAndProbesEntries() {
+        TranspositionTable table = new TranspositionTable(1000, ReplacementPolicy.DEPTH_PREFERRED);
+        assertEquals(2048, table.capacity());
+        assertEquals(-1, table.probe(42L));
+
+        table.store(42L, 7, 0.5f, 3, TranspositionTable.EXACT);
+        int entry = table.probe(42L);
+        assertTrue(entry >= 0);
+        assertEquals(7, table.action(entry));
+        assertEquals(0.5f, table.value(entry));
+        assertEquals(3, table.depth(entry));
+        assertEquals(TranspositionTable.EXACT, table.bound(entry));
+
+        table.store(42L, 8, -1f, 1, TranspositionTable.LOWER);
+        assertEquals(8, table.action(table.probe(42L)));
+
+        table.clear();
+        assertEquals(-1, table.probe(42L));
+    }
+
+    @Test
+    public void depthPreferredKeepsDeepEntries() {
+        // One bucket: every key collides
+        TranspositionTable table = new TranspositionTable(1, ReplacementPolicy.DEPTH_PREFERRED);
+        table.store(1L, 1, 0f, 9, TranspositionTable.EXACT);
+        table.store(2L, 2, 0f, 2, TranspositionTable.EXACT);
+        table.store(3L, 3, 0f, 5, TranspositionTable.EXACT);
+        assertTrue(table.probe(1L) >= 0);
+        assertEquals(-1, table.probe(2L));
+        assertTrue(table.probe(3L) >= 0);
+
+        // After a new search the old entries are replaced first
+        table.newSearch();
+        table.store(4L, 4, 0f, 1, TranspositionTable.EXACT);
+        table.store(5L, 5, 0f, 1, TranspositionTable.EXACT);
+        assertEquals(-1, table.probe(1L));
+        assertEquals(-1, table.probe(3L));
+    }
+
+    @Test
+    public void twoTierKeepsDeepestAndNewest() {
+        TranspositionTable table = new TranspositionTable(1, ReplacementPolicy.TWO_TIER);
+        table.store(1L, 1, 0f, 9, TranspositionTable.EXACT);
+        table.store(2L, 2, 0f, 2, TranspositionTable.EXACT);
+        table.store(3L, 3, 0f, 1, TranspositionTable.EXACT);
+        assertTrue(table.probe(1L) >= 0);
+        assertEquals(-1, table.probe(2L));
+        assertTrue(table.probe(3L) >= 0);
+
+        table.store(4L, 4, 0f, 10, TranspositionTable.EXACT);
+        assertTrue(table.probe(4L) >= 0);
+        assertTrue(table.probe(1L) >= 0);
+        assertEquals(-1, table.probe(3L));
+    }
+}
@@ -0,0 +1,77 @@
+package modelTest;
+
+import model.Game;
+import model.GameEventListener;
+import model.Player;
+import model.TurnManager;
+import model.TurnManager.TurnPhase;
+import model.card.Card;
+import model.card.TreasureCard;
+import model.enums.TreasureType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TurnManagerTest {
+
+    @Test
+    public void phasesRunInALoopWithoutNesting() {
+        Game game = new Game(11);
+        game.startGame(4);
+        List<TurnPhase> phases = new ArrayList<>();
+        List<Integer> depths = new ArrayList<>();
+        game.addGameEventListener(new GameEventListener() {
+            @Override
+            public void onPhaseChanged(TurnPhase phase) {
+                phases.add(phase);
+                depths.add(Thread.currentThread().getStackTrace().length);
+            }
+
+            @Override
+            public void onCardDiscarded(Player player, Card card) {
+            }
+
+            @Override
+            public void onGameOver(String message) {
+            }
+        });
+
+        game.getTurnManager().nextPhase();
+        assertEquals(List.of(TurnPhase.DRAW_TREASURE, TurnPhase.DRAW_FLOOD, TurnPhase.END, TurnPhase.ACTIONS), phases);
+        assertEquals(1, depths.stream().distinct().count());
+        assertEquals(1, game.getCurrentPlayerIndex());
+    }
+
+    @Test
+    public void pendingDiscardSuspendsTheTurn() {
+        Game game = new Game(11);
+        game.startGame(2);
+        TurnManager turnManager = game.getTurnManager();
+        Player player = game.getCurrentPlayer();
+        while (!player.getHand().isEmpty()) {
+            player.discardCard(player.getHand().get(0));
+        }
+        for (int i = 0; i < 5; i++) {
+            player.addCardToHand(new TreasureCard("EARTH Card", "", TreasureType.EARTH));
+        }
+
+        // No agent answers the discard, so the turn stops after the treasure draw
+        turnManager.nextPhase();
+        assertTrue(turnManager.isAwaitingDiscard());
+        assertEquals(TurnPhase.DRAW_TREASURE, turnManager.getCurrentPhase());
+        assertEquals(0, game.getCurrentPlayerIndex());
+
+        while (player.handExceedsLimit()) {
+            game.playerDiscardHandCard(player, (TreasureCard) player.getHand().get(0));
+        }
+        turnManager.nextPhase();
+        assertFalse(turnManager.isAwaitingDiscard());
+        assertEquals(TurnPhase.ACTIONS, turnManager.getCurrentPhase());
+        assertEquals(1, game.getCurrentPlayerIndex());
+    }
+}
@@ -0,0 +1,63 @@
+package modelTest;
+
+import model.Board;
+import model.Game;
+import model.Journal;
+import model.Tile;
+import model.sim.RandomActionPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class ZobristTest {
+
+    @Test
+    public void sameStateHashesEquallyWhateverTheOrder() {
+        Board first = new Board();
+        Board second = new Board();
+        long initial = first.getZobristHash();
+        assertEquals(initial, second.getZobristHash());
+
+        List<Tile> a = first.getAllTiles();
+        List<Tile> b = second.getAllTiles();
+        first.floodTile(a.get(2));
+        first.floodTile(a.get(9));
+        first.sinkTile(a.get(9));
+        second.floodTile(b.get(9));
+        second.floodTile(b.get(2));
+        second.sinkTile(b.get(9));
+        assertEquals(first.getZobristHash(), second.getZobristHash());
+        assertNotEquals(initial, first.getZobristHash());
+
+        first.dryTile(a.get(2));
+        first.floodTile(a.get(2));
+        assertEquals(first.getZobristHash(), second.getZobristHash());
+    }
+
+    @Test
+    public void journalRollbackRestoresTheHash() {
+        Game game = new Game(5);
+        game.startGame(3);
+        Journal journal = new Journal(game);
+        long before = game.getStateHash();
+        int savepoint = journal.savepoint();
+
+        RandomActionPolicy policy = new RandomActionPolicy();
+        SplittableRandom random = new SplittableRandom(9);
+        policy.playActions(game, game.getCurrentPlayer(), random);
+        game.getTreasureDeck().discard(game.getTreasureDeck().drawCard());
+        game.increaseWaterLevel();
+        long after = game.getStateHash();
+        assertNotEquals(before, after);
+
+        int end = journal.savepoint();
+        journal.rollback(savepoint);
+        assertEquals(before, game.getStateHash());
+        journal.redo(end);
+        assertEquals(after, game.getStateHash());
+    }
+}
@@ -8,7 +8,7 @@ public class gameTest {
     @Test
     public void gameInitialTest() {
         // Assume there will be 4 players
-        Game game = Game.getInstance();
+        Game game = new Game();
         game.startGame(4);
     }
 }